@@ -5,11 +5,16 @@ import BuyThisDoHippo.Mapoop.domain.chat_log.dto.ChatHistoryResponse;
 import BuyThisDoHippo.Mapoop.domain.chat_log.dto.ChatResponse;
 import BuyThisDoHippo.Mapoop.domain.chat_log.entity.ChatLog;
 import BuyThisDoHippo.Mapoop.domain.chat_log.repository.ChatLogRepository;
+import BuyThisDoHippo.Mapoop.domain.route.service.WalkingRouter;
 import BuyThisDoHippo.Mapoop.domain.search.dto.SearchFilter;
+import BuyThisDoHippo.Mapoop.domain.search.rank.RankingEngine;
+import BuyThisDoHippo.Mapoop.domain.search.rank.RankingFeatures;
 import BuyThisDoHippo.Mapoop.domain.search.service.SearchService;
 import BuyThisDoHippo.Mapoop.domain.toilet.dto.ToiletInfo;
 import BuyThisDoHippo.Mapoop.domain.user.entity.User;
 import BuyThisDoHippo.Mapoop.domain.user.repository.UserRepository;
+import BuyThisDoHippo.Mapoop.global.common.GeoUtils;
+import BuyThisDoHippo.Mapoop.global.common.TagConstants;
 import BuyThisDoHippo.Mapoop.global.error.ApplicationException;
 import BuyThisDoHippo.Mapoop.global.error.CustomErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +23,9 @@ import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
@@ -33,6 +40,14 @@ public class ChatBotService {
     private final UserRepository userRepository;
     private final ChatGPTService chatGPTService;
     private final SearchService searchService;
+    private final WalkingRouter walkingRouter;
+    private final RankingEngine rankingEngine;
+
+    private static final int WALK_METERS_PER_MINUTE = 70;
+    /** 챗봇에 넘길 최대 후보 수 */
+    private static final int MAX_CANDIDATES = 5;
+    /** 분 제한 없는 질문에서 경로 탐색 상한 */
+    private static final int MAX_ROUTE_METERS = 3000;
 
     /** 챗봇에게 질문하고 답변받기: ✅ DB 후보만으로 추천 */
     @Transactional
@@ -62,6 +77,7 @@ public class ChatBotService {
                 .keyword(keyword)  // ← 키워드 추가
                 .lat(req.getLat())
                 .lng(req.getLng())
+                .radiusMeters(maxMinutes != null ? (maxMinutes + 1) * WALK_METERS_PER_MINUTE : null) // 직선거리로 먼저 자름
                 .minRating(minRating)
                 .requireAvailable(null)
                 .build();
@@ -69,26 +85,29 @@ public class ChatBotService {
         var dbResult = searchService.search(filter);
         var toilets  = dbResult.getToilets();
 
-        // ① N분 이내 필터링(있다면) ② 도보시간 오름차순 정렬 ③ 최대 5개
-        List<ToiletInfo> picked = toilets.stream()
+        // 보행 그래프가 있으면 후보 전체 도보 거리를 한 번에 계산 (없으면 직선 거리 추정)
+        Map<Long, Integer> walkMeters = walkingMeters(req.getLat(), req.getLng(), toilets, maxMinutes);
+
+        // ① N분 이내 필터링(있다면)
+        List<ToiletInfo> reachable = toilets.stream()
                 .filter(t -> {
                     if (maxMinutes == null) return true;
-                    int m = estimateWalkMinutes(req.getLat(), req.getLng(), t);
+                    // 경로를 계산했는데 제한 거리 안에 못 닿은 후보
+                    if (walkMeters != null && t.getLatitude() != null && !walkMeters.containsKey(t.getToiletId())) return false;
+                    int m = estimateWalkMinutes(req.getLat(), req.getLng(), t, walkMeters);
                     return m <= maxMinutes;
                 })
-                .sorted((a, b) -> Integer.compare(
-                        estimateWalkMinutes(req.getLat(), req.getLng(), a),
-                        estimateWalkMinutes(req.getLat(), req.getLng(), b)
-                ))
-                .limit(5)
                 .toList();
 
+        // ② chatbot 프로필로 정렬 (기본값 = 도보 거리 ASC) ③ 최대 5개
+        List<ToiletInfo> picked = rank(reachable, req.getLat(), req.getLng(), walkMeters);
+
         // 후보를 챗봇 포맷으로
-        List<KakaoLocalService.PlaceDto> candidates = toPlaces(picked, req.getLat(), req.getLng());
+        List<KakaoLocalService.PlaceDto> candidates = toPlaces(picked, req.getLat(), req.getLng(), walkMeters);
 
         String answer;
         if (!candidates.isEmpty()) {
-            // 최대 5개만 넘김(1개 이상이면 OK)
+            // 최대 MAX_CANDIDATES개만 넘김(1개 이상이면 OK)
             answer = chatGPTService.recommendFromCandidates(
                     req.getQuestion(),
                     candidates,
@@ -137,12 +156,13 @@ public class ChatBotService {
     }
 
     /** ToiletInfo → 후보 포맷 */
-    private List<KakaoLocalService.PlaceDto> toPlaces(List<ToiletInfo> list, Double userLat, Double userLng) {
+    private List<KakaoLocalService.PlaceDto> toPlaces(List<ToiletInfo> list, Double userLat, Double userLng,
+                                                      Map<Long, Integer> walkMeters) {
         return list.stream().map(t -> new KakaoLocalService.PlaceDto(
                 t.getName(),
                 (t.getAddress() != null) ? t.getAddress() : "주소 정보 없음",
                 floorLabel(t.getFloor()),
-                walkTime(userLat, userLng, t),
+                walkTime(userLat, userLng, t, walkMeters),
                 "정보 없음"
         )).toList();
     }
@@ -154,28 +174,12 @@ public class ChatBotService {
         return floor + "층";
     }
 
-    private String walkTime(Double userLat, Double userLng, ToiletInfo t) {
-        if (t.getDistance() != null && t.getDistance() > 0) {
-            double meters = t.getDistance();
-            int minutes = Math.max(1, (int)Math.round(meters / 70.0));
-            return "도보 약 " + minutes + "분";
-        }
-        if (userLat != null && userLng != null && t.getLatitude() != null && t.getLongitude() != null) {
-            double meters = haversineMeters(userLat, userLng, t.getLatitude(), t.getLongitude());
-            int minutes = Math.max(1, (int)Math.round(meters / 70.0));
-            return "도보 약 " + minutes + "분";
+    private String walkTime(Double userLat, Double userLng, ToiletInfo t, Map<Long, Integer> walkMeters) {
+        if (walkMeters == null && (t.getDistance() == null || t.getDistance() <= 0)
+                && (userLat == null || userLng == null || t.getLatitude() == null || t.getLongitude() == null)) {
+            return "도보 약 3분";
         }
-        return "도보 약 3분";
-    }
-
-    private double haversineMeters(double lat1, double lon1, double lat2, double lon2) {
-        double R = 6371000.0;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat/2)*Math.sin(dLat/2)
-                + Math.cos(Math.toRadians(lat1))*Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon/2)*Math.sin(dLon/2);
-        return 2 * R * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
+        return "도보 약 " + estimateWalkMinutes(userLat, userLng, t, walkMeters) + "분";
     }
 
     private Optional<Double> parseMinRating(String q) {
@@ -220,17 +224,53 @@ public class ChatBotService {
         return Optional.empty();
     }
 
-    /** 도보 시간(분) 추정: distance 또는 좌표로 계산, 분당 70m 가정 */
-    private int estimateWalkMinutes(Double userLat, Double userLng, ToiletInfo t) {
-        double meters;
-        if (t.getDistance() != null && t.getDistance() > 0) {
-            meters = t.getDistance();  // ✅ 이미 미터 단위
-        } else if (userLat != null && userLng != null && t.getLatitude() != null && t.getLongitude() != null) {
-            meters = haversineMeters(userLat, userLng, t.getLatitude(), t.getLongitude());
-        } else {
-            meters = 200.0; // 기본 3분 정도
+    /**
+     * 후보별 보행 경로 거리 (m)
+     * - 보행 그래프가 없거나 위치를 모르면 null → 직선 거리 추정
+     * - N분 제한이 있으면 그 거리까지만 탐색 (못 닿은 후보는 결과에서 빠짐)
+     */
+    private Map<Long, Integer> walkingMeters(Double userLat, Double userLng, List<ToiletInfo> toilets, Integer maxMinutes) {
+        if (userLat == null || userLng == null || !walkingRouter.isReady()) return null;
+        List<WalkingRouter.Target> targets = toilets.stream()
+                .filter(t -> t.getToiletId() != null && t.getLatitude() != null && t.getLongitude() != null)
+                .map(t -> new WalkingRouter.Target(t.getToiletId(), t.getLatitude(), t.getLongitude()))
+                .toList();
+        int maxMeters = maxMinutes != null ? (maxMinutes + 1) * WALK_METERS_PER_MINUTE : MAX_ROUTE_METERS;
+        return walkingRouter.walkingMeters(userLat, userLng, targets, maxMeters);
+    }
+
+    // 도보 거리(경로 → distance → 직선) + 평점/제휴/현재 이용 가능을 특성 열로 → 상위 MAX_CANDIDATES개
+    private List<ToiletInfo> rank(List<ToiletInfo> list, Double userLat, Double userLng, Map<Long, Integer> walkMeters) {
+        boolean located = userLat != null && userLng != null;
+        RankingFeatures f = new RankingFeatures(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            ToiletInfo t = list.get(i);
+            f.set(i,
+                    located ? walkDistance(userLat, userLng, t, walkMeters) : RankingFeatures.NO_DISTANCE,
+                    t.getRating(),
+                    null,
+                    t.getTags() != null && t.getTags().contains(TagConstants.VIRTUAL_AVAILABLE),
+                    Boolean.TRUE.equals(t.getIsPartnership()),
+                    0.0,
+                    null);
+        }
+        int[] order = rankingEngine.order(RankingEngine.CHATBOT, f, located, false, MAX_CANDIDATES);
+        return Arrays.stream(order).mapToObj(list::get).toList();
+    }
+
+    /** 도보 시간(분) 추정: 보행 경로 거리 → distance → 좌표 직선 거리 순, 분당 70m 가정 */
+    private int estimateWalkMinutes(Double userLat, Double userLng, ToiletInfo t, Map<Long, Integer> walkMeters) {
+        return Math.max(1, (int) Math.round(walkDistance(userLat, userLng, t, walkMeters) / (double) WALK_METERS_PER_MINUTE));
+    }
+
+    private int walkDistance(Double userLat, Double userLng, ToiletInfo t, Map<Long, Integer> walkMeters) {
+        Integer routed = walkMeters != null ? walkMeters.get(t.getToiletId()) : null;
+        if (routed != null) return routed;
+        if (t.getDistance() != null && t.getDistance() > 0) return t.getDistance();  // ✅ 이미 미터 단위
+        if (userLat != null && userLng != null && t.getLatitude() != null && t.getLongitude() != null) {
+            return (int) Math.round(GeoUtils.haversineMeters(userLat, userLng, t.getLatitude(), t.getLongitude()));
         }
-        return Math.max(1, (int) Math.round(meters / 70.0));
+        return 200; // 기본 3분 정도
     }
 
     /** 질문에서 키워드 추출 */
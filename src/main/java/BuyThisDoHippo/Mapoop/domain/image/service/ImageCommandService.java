@@ -4,6 +4,7 @@ import BuyThisDoHippo.Mapoop.domain.image.entity.Image;
 import BuyThisDoHippo.Mapoop.domain.image.repository.ImageRepository;
 import BuyThisDoHippo.Mapoop.domain.toilet.entity.Toilet;
 import BuyThisDoHippo.Mapoop.domain.toilet.entity.ToiletImage;
+import BuyThisDoHippo.Mapoop.domain.toilet.event.ToiletChangedEvent;
 import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletImageRepository;
 import BuyThisDoHippo.Mapoop.global.error.ApplicationException;
 import BuyThisDoHippo.Mapoop.global.error.CustomErrorCode;
@@ -11,6 +12,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class ImageCommandService {
     private final ImageRepository imageRepository;
     private final S3ImageService s3ImageService;
     private final ToiletImageRepository toiletImageRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @PersistenceContext
     private EntityManager em;
@@ -36,16 +39,21 @@ public class ImageCommandService {
         return imageRepository.save(image).getId();
     }
 
+    @Transactional
     public void deleteImage(Long imageId) {
         ToiletImage toiletImage = toiletImageRepository.findByImageIdWithImage(imageId)
                 .orElseThrow(() -> new ApplicationException(CustomErrorCode.IMAGE_NOT_FOUND));
 
         Image image = toiletImage.getImage();
         String imageUrl = image.getImageUrl();
+        Toilet toilet = toiletImage.getToilet();
 
         toiletImageRepository.delete(toiletImage);
         toiletImageRepository.flush();
 
+        // 대표 이미지였을 수 있으므로 다시 계산
+        refreshMainImage(toilet);
+
         boolean referencedElsewhere =
                 toiletImageRepository.existsByImage(image);
 
@@ -55,10 +63,14 @@ public class ImageCommandService {
         }
     }
 
+    @Transactional
     public void deleteAllImages(Long toiletId) {
         List<ToiletImage> links = toiletImageRepository.findAllByToiletIdWithImage(toiletId);
         if (links.isEmpty()) return;
 
+        links.get(0).getToilet().updateMainImage(null, null);
+        eventPublisher.publishEvent(new ToiletChangedEvent(toiletId));
+
         List<Image> images = links.stream().map(ToiletImage::getImage).toList();
         List<String> urls  = images.stream().map(Image::getImageUrl).toList();
 
@@ -73,6 +85,7 @@ public class ImageCommandService {
 
     }
 
+    @Transactional
     public void attachByIds(Toilet toilet, List<Long> imageIds) {
         if (imageIds == null || imageIds.isEmpty()) return;
 
@@ -90,6 +103,9 @@ public class ImageCommandService {
 
         // 3. 저장
         toiletImageRepository.saveAll(toiletImages);
+
+        // 4. 대표 이미지 갱신
+        refreshMainImage(toilet);
     }
 
     @Transactional
@@ -116,4 +132,17 @@ public class ImageCommandService {
         // 기존 attach 로직 재활용
         attachByIds(toilet, toAttach);
     }
+
+    /**
+     * 화장실 대표 이미지(비정규화 컬럼) 재계산
+     * 가장 먼저 연결된 이미지 기준, 별도 썸네일 생성본이 없어서 썸네일도 원본 URL 사용
+     */
+    private void refreshMainImage(Toilet toilet) {
+        String mainImageUrl = toiletImageRepository.findMainImagesByToiletIds(List.of(toilet.getId())).stream()
+                .findFirst()
+                .map(ToiletImageRepository.ToiletMainImage::getImageUrl)
+                .orElse(null);
+        toilet.updateMainImage(mainImageUrl, mainImageUrl);
+        eventPublisher.publishEvent(new ToiletChangedEvent(toilet.getId()));
+    }
 }
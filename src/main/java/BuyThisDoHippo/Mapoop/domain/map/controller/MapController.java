@@ -3,18 +3,32 @@ package BuyThisDoHippo.Mapoop.domain.map.controller;
 import BuyThisDoHippo.Mapoop.domain.map.dto.MapResultResponse;
 import BuyThisDoHippo.Mapoop.domain.map.dto.MarkerFilter;
 import BuyThisDoHippo.Mapoop.domain.map.service.MapService;
+import BuyThisDoHippo.Mapoop.domain.map.service.MapTileService;
+import BuyThisDoHippo.Mapoop.domain.map.tile.VectorTileEncoder;
 import BuyThisDoHippo.Mapoop.domain.toilet.entity.ToiletType;
 import BuyThisDoHippo.Mapoop.global.common.CommonResponse;
+import BuyThisDoHippo.Mapoop.global.common.ConditionalGet;
+import BuyThisDoHippo.Mapoop.global.common.NdjsonResponse;
 import BuyThisDoHippo.Mapoop.global.common.TagConstants;
+import BuyThisDoHippo.Mapoop.global.error.ApplicationException;
+import BuyThisDoHippo.Mapoop.global.error.CustomErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -23,6 +37,10 @@ import java.util.List;
 public class MapController {
 
     private final MapService mapService;
+    private final MapTileService mapTileService;
+    private final ObjectMapper objectMapper;
+
+    private static final int MAX_MARKERS = 2000;
 
     @GetMapping("/markers")
     public CommonResponse<MapResultResponse> getMarkers(
@@ -30,10 +48,75 @@ public class MapController {
             @RequestParam(required = false) Double lng,
             @RequestParam(required = false) Double minRating,
             @RequestParam(required = false) ToiletType type,
-            @RequestParam(required = false) List<String> tags
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) Double swLat,
+            @RequestParam(required = false) Double swLng,
+            @RequestParam(required = false) Double neLat,
+            @RequestParam(required = false) Double neLng,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Integer zoom,
+            ServletWebRequest request
     ) {
         log.debug("지도 마커 요청");
 
+        // 데이터 버전 + 운영 칸이 같으면 304 (필터/DB 작업 없음, 조건은 URL에 포함)
+        if (ConditionalGet.notModified(request, mapService.markersETag())) {
+            return null;
+        }
+
+        MarkerFilter filter = toFilter(lat, lng, minRating, type, tags, swLat, swLng, neLat, neLng, limit, zoom, MAX_MARKERS);
+        MapResultResponse response = mapService.getMarkers(filter);
+        return CommonResponse.onSuccess(response, "마커 데이터 조회 성공");
+    }
+
+    /**
+     * 같은 조건의 마커를 NDJSON으로 (Accept: application/x-ndjson)
+     * 줄마다 MarkerInfo 하나, 클러스터 없이 개별 마커만 (한 번에 들고 있지 않으므로 MAX_MARKERS 제한 없음)
+     */
+    @GetMapping(value = "/markers", produces = NdjsonResponse.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamMarkers(
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) ToiletType type,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) Double swLat,
+            @RequestParam(required = false) Double swLng,
+            @RequestParam(required = false) Double neLat,
+            @RequestParam(required = false) Double neLng,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Integer zoom
+    ) {
+        log.debug("지도 마커 스트리밍 요청");
+
+        MarkerFilter filter = toFilter(lat, lng, minRating, type, tags, swLat, swLng, neLat, neLng, limit, zoom, Integer.MAX_VALUE);
+        return NdjsonResponse.of(objectMapper, mapService.streamMarkers(filter));
+    }
+
+    /**
+     * 마커 벡터 타일 (Mapbox Vector Tile, 레이어 "toilets")
+     * 줌 MapTileService.MIN_ZOOM ~ MAX_ZOOM 만 제공 (그 아래는 /markers 클러스터 사용)
+     */
+    @GetMapping(value = "/tiles/{z}/{x}/{y}", produces = VectorTileEncoder.MEDIA_TYPE)
+    public ResponseEntity<byte[]> getTile(@PathVariable int z, @PathVariable int x, @PathVariable int y) {
+        MapTileService.Tile tile = mapTileService.getTile(z, x, y);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(VectorTileEncoder.MEDIA_TYPE))
+                .body(tile.data());
+    }
+
+    private MarkerFilter toFilter(Double lat, Double lng, Double minRating, ToiletType type, List<String> tags,
+                                  Double swLat, Double swLng, Double neLat, Double neLng,
+                                  Integer limit, Integer zoom, int maxMarkers) {
+        // 화면 영역은 네 모서리 값이 모두 있거나 모두 없어야 함
+        long boundCount = Stream.of(swLat, swLng, neLat, neLng).filter(Objects::nonNull).count();
+        if (boundCount != 0 && boundCount != 4) {
+            throw new ApplicationException(CustomErrorCode.MISSING_REQUIRED_PARAM);
+        }
+        if ((limit != null && limit <= 0) || (zoom != null && zoom < 0)) {
+            throw new ApplicationException(CustomErrorCode.INVALID_REQUEST_DTO);
+        }
+
         List<String> raw = (tags == null ? List.<String>of()
                 : tags.stream()
                 .flatMap(s -> Arrays.stream(s.split(",")))
@@ -49,16 +132,20 @@ public class MapController {
                 .filter(t -> !t.equalsIgnoreCase(TagConstants.VIRTUAL_AVAILABLE))
                 .toList();
 
-        MarkerFilter filter = MarkerFilter.builder()
+        return MarkerFilter.builder()
                 .lat(lat)
                 .lng(lng)
                 .minRating(minRating)
                 .type(type)
                 .tags(normalizedTags)
                 .requireAvailable(requireAvailable)
+                .swLat(boundCount == 4 ? Math.min(swLat, neLat) : null)
+                .swLng(boundCount == 4 ? Math.min(swLng, neLng) : null)
+                .neLat(boundCount == 4 ? Math.max(swLat, neLat) : null)
+                .neLng(boundCount == 4 ? Math.max(swLng, neLng) : null)
+                // limit 없으면 상한 그대로 (JSON: MAX_MARKERS, 스트리밍: 제한 없음)
+                .maxMarkers(limit == null ? maxMarkers : Math.min(limit, maxMarkers))
+                .zoom(zoom)
                 .build();
-
-        MapResultResponse response = mapService.getMarkers(filter);
-        return CommonResponse.onSuccess(response, "마커 데이터 조회 성공");
     }
 }
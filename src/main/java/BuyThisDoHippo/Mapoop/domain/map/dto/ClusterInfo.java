@@ -0,0 +1,19 @@
+package BuyThisDoHippo.Mapoop.domain.map.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+/* 낮은 줌 레벨에서 마커 대신 내려주는 클러스터 점 */
+public class ClusterInfo {
+    private Double latitude;     // 무게중심
+    private Double longitude;
+    private Integer count;
+    private Double bestRating;
+    private Boolean isAnyOpenNow;
+}
@@ -14,4 +14,8 @@ import java.util.List;
 public class MapResultResponse {
     private int totalCount;
     private List<MarkerInfo> markers;
+
+    /** zoom이 클러스터 기준 이하일 때만 채움 (이때 markers는 비어 있음) */
+    private boolean clustered;
+    private List<ClusterInfo> clusters;
 }
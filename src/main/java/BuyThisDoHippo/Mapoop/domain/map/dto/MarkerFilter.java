@@ -22,4 +22,24 @@ public class MarkerFilter {
 
     private Boolean requireAvailable;  // true : 현재이용가능
 
+    /** 지도 화면 영역 (남서 / 북동 모서리) */
+    private Double swLat;
+    private Double swLng;
+    private Double neLat;
+    private Double neLng;
+
+    private Integer maxMarkers;   // 최대 마커 수 (null → 제한 없음)
+
+    private Integer zoom;         // 지도 줌 레벨 (0~21, 클수록 확대)
+
+    /** 태그/평점/타입/이용가능 조건이 하나라도 있는지 */
+    public boolean hasAttributeFilter() {
+        return minRating != null || type != null
+                || (tags != null && !tags.isEmpty())
+                || Boolean.TRUE.equals(requireAvailable);
+    }
+
+    public boolean hasBounds() {
+        return swLat != null && swLng != null && neLat != null && neLng != null;
+    }
 }
@@ -2,104 +2,63 @@ package BuyThisDoHippo.Mapoop.domain.map.service;
 
 import BuyThisDoHippo.Mapoop.domain.image.entity.Image;
 import BuyThisDoHippo.Mapoop.domain.image.repository.ImageRepository;
+import BuyThisDoHippo.Mapoop.domain.map.dto.ClusterInfo;
 import BuyThisDoHippo.Mapoop.domain.map.dto.MapResultResponse;
 import BuyThisDoHippo.Mapoop.domain.map.dto.MarkerInfo;
 import BuyThisDoHippo.Mapoop.domain.map.dto.MarkerFilter;
-import BuyThisDoHippo.Mapoop.domain.tag.entity.Tag;
-import BuyThisDoHippo.Mapoop.domain.tag.entity.ToiletTag;
-import BuyThisDoHippo.Mapoop.domain.tag.repository.TagRepository;
-import BuyThisDoHippo.Mapoop.domain.tag.service.TagService;
-import BuyThisDoHippo.Mapoop.domain.toilet.entity.Toilet;
+import BuyThisDoHippo.Mapoop.domain.search.rank.RankingEngine;
+import BuyThisDoHippo.Mapoop.domain.search.rank.ToiletRanking;
+import BuyThisDoHippo.Mapoop.domain.tag.service.TagDictionary;
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletCatalog;
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletView;
 import BuyThisDoHippo.Mapoop.domain.toilet.entity.ToiletImage;
-import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletImageRepository;
 import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletRepository;
-import BuyThisDoHippo.Mapoop.global.common.TagConstants;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.WeeklySchedule;
+import BuyThisDoHippo.Mapoop.domain.toilet.service.OpeningClock;
+import BuyThisDoHippo.Mapoop.domain.toilet.service.ToiletCardAssembler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalTime;
-import java.time.ZoneId;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class MapService {
 
-    private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
     private final ToiletRepository toiletRepository;
-    private final ToiletImageRepository toiletImageRepository;
+    private final MarkerClusterIndex markerClusterIndex;
+    private final ToiletCardAssembler toiletCardAssembler;
+    private final OpeningClock openingClock;
+    private final ToiletCatalog toiletCatalog;
+    private final RankingEngine rankingEngine;
 
     @Transactional(readOnly = true)
     public MapResultResponse getMarkers(MarkerFilter filter) {
 
-        LocalTime now = LocalTime.now(ZoneId.of("Asia/Seoul"));
+        WeeklySchedule.Moment now = openingClock.now();
+
+        // 낮은 줌 → 클러스터 (필터 없으면 미리 만든 격자 사용)
+        boolean clustered = filter.getZoom() != null && filter.getZoom() <= MarkerClusterIndex.CLUSTER_MAX_ZOOM;
+        if (clustered && !filter.hasAttributeFilter()) {
+            return clusterResponse(markerClusterIndex.clusters(filter.getZoom(), filter, now));
+        }
 
         // 태그 이름 → ID
-        List<Long> tagIds = resolveTagIds(filter.getTags());
+        List<Long> tagIds = tagDictionary.resolveIds(filter.getTags());
 
-        List<Toilet> list = toiletRepository.searchAllFiltered(
-                null,
-                filter.getMinRating(),
-                filter.getType(),
-                tagIds.isEmpty() ? null : tagIds,
-                tagIds.size(),
-                filter.getRequireAvailable(),
-                now
-        );
-
-        // 위치 있으면 거리순, 없으면 평점(이름)순
-        Comparator<Toilet> comparator;
-        if (filter.getLat() != null && filter.getLng() != null) {
-            comparator = Comparator.comparingInt(
-                    t -> distanceMeters(filter.getLat(), filter.getLng(), t.getLatitude(), t.getLongitude())
-            );
-        } else {
-            comparator = Comparator
-                    .<Toilet, Double>comparing(t -> Optional.ofNullable(t.getAvgRating()).orElse(0.0))
-                    .reversed()
-                    .thenComparing(Toilet::getName, Comparator.nullsLast(String::compareTo));
+        List<ToiletView> list = findToilets(filter, tagIds, now);
+
+        if (clustered) {
+            return clusterResponse(MarkerClusterIndex.aggregate(list, filter.getZoom(), now));
         }
-        list.sort(comparator);
-
-        // 매핑
-        List<MarkerInfo> markers = list.stream().map(t -> {
-            boolean available = t.isOpenNow(now);
-
-            List<String> tagNames = t.getToiletTags().stream()
-                    .map(ToiletTag::getTag)
-                    .filter(Objects::nonNull)
-                    .map(Tag::getName)
-                    .distinct()
-                    .collect(Collectors.toCollection(ArrayList::new));
-            if (available) tagNames.add(TagConstants.VIRTUAL_AVAILABLE);
-
-            String mainImageUrl = toiletImageRepository
-                    .findFirstByToilet_IdOrderByCreatedAtAsc(t.getId())
-                    .map(ti->ti.getImage().getImageUrl())
-                    .orElse(null);
-
-            return MarkerInfo.builder()
-                    .toiletId(t.getId())
-                    .type(t.getType().name())
-                    .latitude(t.getLatitude())
-                    .longitude(t.getLongitude())
-                    .name(t.getName())
-                    .rating(Optional.ofNullable(t.getAvgRating()).orElse(0.0))
-                    .tags(tagNames)
-                    .isOpenNow(available)
-                    .address(t.getAddress())
-                    .isOpen24h(t.getOpen24h())
-                    .openTime(t.getOpenTime())
-                    .closeTime(t.getCloseTime())
-                    .distance((filter.getLat() != null && filter.getLng() != null)
-                            ? distanceMeters(filter.getLat(), filter.getLng(), t.getLatitude(), t.getLongitude())
-                            : null)
-                    .mainImageUrl(mainImageUrl)
-                    .build();
-        }).toList();
+
+        ToiletRanking.Ranked ranked = rank(list, filter, tagIds, now);
+        List<MarkerInfo> markers = toiletCardAssembler.toMarkerInfos(ranked, now);
 
         return MapResultResponse.builder()
                 .totalCount(markers.size())
@@ -108,28 +67,83 @@ public class MapService {
 
     }
 
-    private List<Long> resolveTagIds(List<String> names) {
-        if (names == null || names.isEmpty()) return List.of();
-        List<String> normalized = names.stream()
-                .filter(Objects::nonNull)
-                .map(String::trim)
-                .filter(s -> !s.isBlank())
-                .distinct()
-                .toList();
-        if (normalized.isEmpty()) return List.of();
-        return tagRepository.findIdsByNames(normalized);
+    /**
+     * 마커 응답 ETag (카탈로그 내용 해시 + 주간 운영 칸)
+     * 카탈로그에서만 계산 (트랜잭션/DB 연결 없음), 적재 전이면 null
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String markersETag() {
+        return toiletCatalog.versionTag(openingClock.now());
+    }
+
+    /**
+     * 개별 마커를 하나씩 (NDJSON 스트리밍 응답용, 줌과 관계없이 클러스터 없음)
+     * 필터/정렬은 여기서 끝내고 마커 카드는 소비하는 쪽이 꺼낼 때 만듦
+     */
+    @Transactional(readOnly = true)
+    public Stream<MarkerInfo> streamMarkers(MarkerFilter filter) {
+        WeeklySchedule.Moment now = openingClock.now();
+        List<Long> tagIds = tagDictionary.resolveIds(filter.getTags());
+        List<ToiletView> list = findToilets(filter, tagIds, now);
+        return toiletCardAssembler.streamMarkerInfos(rank(list, filter, tagIds, now), now);
+    }
+
+    // 카탈로그(메모리)에서 필터, 적재 전에만 DB 조회
+    private List<ToiletView> findToilets(MarkerFilter filter, List<Long> tagIds, WeeklySchedule.Moment now) {
+        if (toiletCatalog.isReady()) {
+            return filterCatalog(toiletCatalog.current(), filter, tagIds, now);
+        }
+        return toiletCatalog.viewsOf(toiletRepository.searchAllFiltered(
+                null,
+                null,
+                filter.getSwLat(),
+                filter.getSwLng(),
+                filter.getNeLat(),
+                filter.getNeLng(),
+                filter.getMinRating(),
+                filter.getType(),
+                tagIds.isEmpty() ? null : tagIds,
+                tagIds.size(),
+                filter.getRequireAvailable(),
+                now.hexIndex() + 1,
+                now.hexDigitsWithBit()
+        ));
+    }
+
+    // map 프로필 가중치 (기본값 = 위치 있으면 거리순, 없으면 평점(이름)순) → 최대 마커 수만큼
+    private ToiletRanking.Ranked rank(List<ToiletView> list, MarkerFilter filter, List<Long> tagIds,
+                                      WeeklySchedule.Moment now) {
+        int limit = filter.getMaxMarkers() == null ? 0 : filter.getMaxMarkers();
+        return rankingEngine.rank(RankingEngine.MAP, list,
+                new RankingEngine.Query(filter.getLat(), filter.getLng(), null, tagIds, now), limit);
     }
 
-    // m 기준 하버사인 계산
-    private int distanceMeters(double lat1, double lon1, Double lat2, Double lon2) {
-        if (lat2 == null || lon2 == null) return Integer.MAX_VALUE;
-        double R = 6371000.0;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat/2)*Math.sin(dLat/2)
-                + Math.cos(Math.toRadians(lat1))*Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon/2)*Math.sin(dLon/2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
-        return (int)Math.round(R * c);
+    // searchAllFiltered와 같은 조건 (화면 영역, 최소 평점, 타입, 태그 AND, 현재 이용 가능)
+    // 평점 DESC → 이름 ASC 순서로 돌아서 이후 정렬의 동점 순서도 유지
+    private static List<ToiletView> filterCatalog(ToiletCatalog.Version version, MarkerFilter filter,
+                                                  List<Long> tagIds, WeeklySchedule.Moment now) {
+        boolean bounds = filter.hasBounds();
+        boolean requireAvailable = Boolean.TRUE.equals(filter.getRequireAvailable());
+        List<ToiletView> out = new ArrayList<>();
+        for (ToiletView t : version.byRating()) {
+            if (t.latitude() == null || t.longitude() == null) continue;
+            if (bounds && (t.latitude() < filter.getSwLat() || t.latitude() > filter.getNeLat()
+                    || t.longitude() < filter.getSwLng() || t.longitude() > filter.getNeLng())) continue;
+            if (filter.getMinRating() != null && (t.avgRating() == null || t.avgRating() < filter.getMinRating())) continue;
+            if (filter.getType() != null && t.type() != filter.getType()) continue;
+            if (!tagIds.isEmpty() && !t.hasAllTags(tagIds)) continue;
+            if (requireAvailable && !t.isOpenNow(now)) continue;
+            out.add(t);
+        }
+        return out;
+    }
+
+    private MapResultResponse clusterResponse(List<ClusterInfo> clusters) {
+        return MapResultResponse.builder()
+                .totalCount(clusters.stream().mapToInt(ClusterInfo::getCount).sum())
+                .markers(List.of())
+                .clustered(true)
+                .clusters(clusters)
+                .build();
     }
 }
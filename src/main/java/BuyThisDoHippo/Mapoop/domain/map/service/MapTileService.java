@@ -0,0 +1,145 @@
+package BuyThisDoHippo.Mapoop.domain.map.service;
+
+import BuyThisDoHippo.Mapoop.domain.map.tile.TileMath;
+import BuyThisDoHippo.Mapoop.domain.map.tile.VectorTileEncoder;
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletCatalog;
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletView;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.WeeklySchedule;
+import BuyThisDoHippo.Mapoop.domain.toilet.event.ToiletViewChangedEvent;
+import BuyThisDoHippo.Mapoop.domain.toilet.service.OpeningClock;
+import BuyThisDoHippo.Mapoop.global.cache.CacheCodec;
+import BuyThisDoHippo.Mapoop.global.cache.CacheCodecs;
+import BuyThisDoHippo.Mapoop.global.cache.CacheNamespace;
+import BuyThisDoHippo.Mapoop.global.cache.SingleFlight;
+import BuyThisDoHippo.Mapoop.global.cache.TwoLevelCache;
+import BuyThisDoHippo.Mapoop.global.error.ApplicationException;
+import BuyThisDoHippo.Mapoop.global.error.CustomErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 지도 마커 벡터 타일 (MVT, 레이어 "toilets")
+ * - 피처: 화장실 좌표 + id / type / rating / open 속성
+ * - 캐시: L1 + Redis (CacheNamespace.MAP_TILE), 키 = z/x/y
+ *   값에 만든 시점의 카탈로그 버전과 운영시간 칸(요일 + 15분)을 함께 저장 → 칸이 바뀌면 다시 만듦 (open 속성)
+ * - 무효화: 화장실 등록/수정/삭제 시 변경 전/후 좌표가 걸치는 타일만 (줌별)
+ *   만드는 도중 카탈로그가 바뀌었으면 저장한 타일을 바로 지움 (무효화보다 늦게 끝난 옛 버전 타일이 남지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MapTileService {
+
+    public static final String LAYER = "toilets";
+    public static final int MIN_ZOOM = 10;
+    public static final int MAX_ZOOM = 18;
+    private static final int EXTENT = 4096;
+    /** 타일 경계에 걸친 마커가 잘리지 않도록 이웃 타일 점도 포함 (extent 기준 64 ≒ 4px) */
+    private static final int BUFFER = 64;
+    private static final double BUFFER_RATIO = (double) BUFFER / EXTENT;
+
+    private final ToiletCatalog toiletCatalog;
+    private final OpeningClock openingClock;
+    private final TwoLevelCache twoLevelCache;
+    private final SingleFlight singleFlight;
+
+    /** 캐시 값: 카탈로그 버전, 운영시간 칸, MVT 바이트 */
+    public record Tile(long version, int slot, byte[] data) {}
+
+    private static final CacheCodec<Tile> TILE_CODEC = CacheCodec.of(
+            (tile, out) -> {
+                CacheCodecs.writeVarLong(out, tile.version());
+                CacheCodecs.writeVarInt(out, tile.slot());
+                CacheCodecs.writeVarInt(out, tile.data().length);
+                out.write(tile.data());
+            },
+            in -> {
+                long version = CacheCodecs.readVarLong(in);
+                int slot = CacheCodecs.readVarInt(in);
+                byte[] data = new byte[CacheCodecs.readVarInt(in)];
+                in.readFully(data);
+                return new Tile(version, slot, data);
+            });
+
+    public Tile getTile(int z, int x, int y) {
+        if (z < MIN_ZOOM || z > MAX_ZOOM || !TileMath.isValid(z, x, y)) {
+            throw new ApplicationException(CustomErrorCode.INVALID_REQUEST_DTO);
+        }
+        WeeklySchedule.Moment now = openingClock.now();
+        int slot = now.index();
+        String key = z + "/" + x + "/" + y;
+
+        Tile cached = twoLevelCache.getIfPresent(CacheNamespace.MAP_TILE, key, TILE_CODEC);
+        if (cached != null && cached.slot() == slot) return cached;
+
+        // 같은 타일 동시 미스는 한 번만 생성 (카탈로그 버전별 → 변경 뒤 요청이 변경 전 생성에 합류하지 않음)
+        ToiletCatalog.Version version = toiletCatalog.current();
+        return singleFlight.execute(CacheNamespace.MAP_TILE.getPrefix() + key + "@" + slot + "@" + version.version(), () -> {
+            Tile tile = new Tile(version.version(), slot, build(version, z, x, y, now));
+            // 카탈로그 적재 전 빈 타일은 캐시하지 않음
+            if (toiletCatalog.isReady()) {
+                twoLevelCache.put(CacheNamespace.MAP_TILE, key, TILE_CODEC, tile, null);
+                // 카탈로그 교체 → 변경 이벤트(무효화) 순서라서, 저장 뒤 버전이 달라졌으면 무효화를 앞질렀을 수 있음
+                if (toiletCatalog.current().version() != version.version()) {
+                    twoLevelCache.evict(CacheNamespace.MAP_TILE, key);
+                }
+            }
+            return tile;
+        });
+    }
+
+    /** 변경 전/후 좌표가 그려지는 타일만 제거 (좌표·타입·평점·운영시간이 그대로면 건너뜀) */
+    @EventListener
+    public void onToiletViewChanged(ToiletViewChangedEvent event) {
+        if (!affectsTiles(event.before(), event.after())) return;
+        Set<String> keys = new HashSet<>();
+        for (ToiletView v : new ToiletView[]{event.before(), event.after()}) {
+            if (v == null || v.latitude() == null || v.longitude() == null) continue;
+            for (int z = MIN_ZOOM; z <= MAX_ZOOM; z++) {
+                for (int[] t : TileMath.touchedTiles(v.latitude(), v.longitude(), z, BUFFER_RATIO)) {
+                    keys.add(t[0] + "/" + t[1] + "/" + t[2]);
+                }
+            }
+        }
+        keys.forEach(key -> twoLevelCache.evict(CacheNamespace.MAP_TILE, key));
+        log.debug("지도 타일 무효화 - {}개", keys.size());
+    }
+
+    private static byte[] build(ToiletCatalog.Version version, int z, int x, int y, WeeklySchedule.Moment now) {
+        double[] b = TileMath.bounds(z, x, y, BUFFER_RATIO);
+        List<VectorTileEncoder.Feature> features = new ArrayList<>();
+        // 버퍼 포함 타일 범위와 겹치는 격자 칸만 읽음 (타일 하나에 전체 순회 X)
+        for (long id : version.spatial().idsInBounds(b[0], b[1], b[2], b[3])) {
+            ToiletView t = version.get(id);
+            if (t == null) continue;
+            Double lat = t.latitude();
+            Double lng = t.longitude();
+            if (lat == null || lng == null || lat < b[0] || lat > b[2] || lng < b[1] || lng > b[3]) continue;
+
+            int px = (int) Math.round((TileMath.worldX(lng, z) - x) * EXTENT);
+            int py = (int) Math.round((TileMath.worldY(lat, z) - y) * EXTENT);
+            Map<String, Object> attributes = new LinkedHashMap<>(4);
+            attributes.put("id", t.id());
+            attributes.put("type", t.type() == null ? null : t.type().name());
+            attributes.put("rating", t.ratingOrZero());
+            attributes.put("open", t.isOpenNow(now));
+            features.add(new VectorTileEncoder.Feature(t.id(), px, py, attributes));
+        }
+        // 같은 입력이면 같은 바이트 (ETag/캐시 비교용)
+        features.sort(Comparator.comparingLong(VectorTileEncoder.Feature::id));
+        return VectorTileEncoder.encode(LAYER, EXTENT, features);
+    }
+
+    private static boolean affectsTiles(ToiletView a, ToiletView b) {
+        if (a == null || b == null) return true;
+        return !Objects.equals(a.latitude(), b.latitude())
+                || !Objects.equals(a.longitude(), b.longitude())
+                || a.type() != b.type()
+                || a.ratingOrZero() != b.ratingOrZero()
+                || !Arrays.equals(a.openBits(), b.openBits());
+    }
+}
@@ -0,0 +1,230 @@
+package BuyThisDoHippo.Mapoop.domain.map.service;
+
+import BuyThisDoHippo.Mapoop.domain.map.dto.ClusterInfo;
+import BuyThisDoHippo.Mapoop.domain.map.dto.MarkerFilter;
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletCatalog;
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletView;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.WeeklySchedule;
+import BuyThisDoHippo.Mapoop.domain.toilet.event.ToiletViewChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 줌 레벨별 마커 클러스터 (계층 격자)
+ * - 가장 세밀한 레벨(CLUSTER_MAX_ZOOM)을 화장실 좌표로 만들고, 위 레벨은 2x2 칸을 합쳐서 생성
+ * - 칸마다 개수, 무게중심, 최고 평점, 주간 운영표 비트(8행 × 96칸) OR 값을 들고 있음
+ * - 화장실 카탈로그 스냅샷으로 구성 (DB 조회 없음), 카탈로그 버전이 바뀌면 백그라운드 스레드에서 다시 구성
+ *   재구성 요청이 몰려도 한 번만 돌고, 끝나면 새 격자로 통째로 교체 → 조회는 잠금 없이 직전 격자 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarkerClusterIndex {
+
+    /** 이 줌 레벨까지는 클러스터, 초과하면 개별 마커 */
+    public static final int CLUSTER_MAX_ZOOM = 14;
+    /** 타일(256px) 한 변을 몇 칸으로 나눌지 → 칸 ≒ 64px */
+    private static final int CELLS_PER_TILE = 4;
+
+    private final ToiletCatalog toiletCatalog;
+
+    /** 구성에 쓴 카탈로그 버전 + 줌별 격자 (index = zoom), 구성 전이면 null */
+    private record Levels(long version, List<Map<Long, Cluster>> byZoom) {}
+
+    private volatile Levels levels;
+    // 재구성 예약 여부 (예약 중 들어온 요청은 합쳐짐)
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "marker-cluster-rebuild");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** 카탈로그 교체 시점 (다른 노드 변경/전체 재적재 포함) */
+    @EventListener
+    public void onToiletViewChanged(ToiletViewChangedEvent event) {
+        requestRebuild();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private void requestRebuild() {
+        if (!scheduled.compareAndSet(false, true)) return;
+        try {
+            rebuilder.execute(() -> {
+                // 실행 직전에 풀어 두면, 구성 중 들어온 변경은 다음 한 번으로 합쳐짐
+                scheduled.set(false);
+                try {
+                    rebuild(toiletCatalog.current());
+                } catch (Exception e) {
+                    log.error("마커 클러스터 구성 실패: ", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+        }
+    }
+
+    private void rebuild(ToiletCatalog.Version version) {
+        Levels built = levels;
+        if (built != null && built.version() >= version.version()) return;
+
+        Map<Long, Cluster> finest = new HashMap<>();
+        for (ToiletView t : version.all()) {
+            if (t.latitude() == null || t.longitude() == null) continue;
+            finest.computeIfAbsent(cellKey(t.latitude(), t.longitude(), CLUSTER_MAX_ZOOM), k -> new Cluster())
+                    .add(t.latitude(), t.longitude(), t.avgRating(), t.openBits());
+        }
+
+        List<Map<Long, Cluster>> next = new ArrayList<>(Collections.nCopies(CLUSTER_MAX_ZOOM + 1, null));
+        next.set(CLUSTER_MAX_ZOOM, finest);
+        for (int z = CLUSTER_MAX_ZOOM - 1; z >= 0; z--) {
+            Map<Long, Cluster> parent = new HashMap<>();
+            for (Map.Entry<Long, Cluster> e : next.get(z + 1).entrySet()) {
+                int row = (int) (e.getKey() >> 32);
+                int col = (int) (long) e.getKey();
+                parent.computeIfAbsent(key(row >> 1, col >> 1), k -> new Cluster()).merge(e.getValue());
+            }
+            next.set(z, parent);
+        }
+        levels = new Levels(version.version(), List.copyOf(next));
+        log.info("마커 클러스터 구성 완료 - 카탈로그 버전: {}, 최세밀 레벨 칸 수: {}", version.version(), finest.size());
+    }
+
+    /**
+     * 필터 없는 경우: 미리 만든 격자에서 화면 영역 칸만
+     * 격자가 카탈로그보다 뒤처졌으면 재구성을 예약하고, 그동안은 카탈로그에서 화면 영역만 즉석 집계
+     * (응답 ETag가 카탈로그 버전이므로 옛 격자로 응답하지 않음)
+     */
+    public List<ClusterInfo> clusters(int zoom, MarkerFilter bounds, WeeklySchedule.Moment now) {
+        ToiletCatalog.Version version = toiletCatalog.current();
+        Levels built = levels;
+        if (built == null || built.version() < version.version()) {
+            requestRebuild();
+            return aggregate(inBounds(version, bounds), zoom, now);
+        }
+
+        int z = clampZoom(zoom);
+        Map<Long, Cluster> level = built.byZoom().get(z);
+
+        List<ClusterInfo> out = new ArrayList<>();
+        if (bounds == null || !bounds.hasBounds()) {
+            level.values().forEach(c -> out.add(c.toInfo(now)));
+            return out;
+        }
+
+        double d = cellDeg(z);
+        int rowMin = (int) Math.floor(bounds.getSwLat() / d);
+        int rowMax = (int) Math.floor(bounds.getNeLat() / d);
+        int colMin = (int) Math.floor(bounds.getSwLng() / d);
+        int colMax = (int) Math.floor(bounds.getNeLng() / d);
+        long area = (long) (rowMax - rowMin + 1) * (colMax - colMin + 1);
+
+        if (area < level.size()) {
+            for (int r = rowMin; r <= rowMax; r++) {
+                for (int c = colMin; c <= colMax; c++) {
+                    Cluster cluster = level.get(key(r, c));
+                    if (cluster != null) out.add(cluster.toInfo(now));
+                }
+            }
+        } else {
+            for (Map.Entry<Long, Cluster> e : level.entrySet()) {
+                int r = (int) (e.getKey() >> 32);
+                int c = (int) (long) e.getKey();
+                if (r >= rowMin && r <= rowMax && c >= colMin && c <= colMax) {
+                    out.add(e.getValue().toInfo(now));
+                }
+            }
+        }
+        return out;
+    }
+
+    /** 필터가 있는 경우: 조회된 화장실로 해당 레벨만 즉석 집계 */
+    public static List<ClusterInfo> aggregate(List<ToiletView> toilets, int zoom, WeeklySchedule.Moment now) {
+        int z = clampZoom(zoom);
+        Map<Long, Cluster> level = new HashMap<>();
+        for (ToiletView t : toilets) {
+            if (t.latitude() == null || t.longitude() == null) continue;
+            level.computeIfAbsent(cellKey(t.latitude(), t.longitude(), z), k -> new Cluster())
+                    .add(t.latitude(), t.longitude(), t.avgRating(), t.openBits());
+        }
+        return level.values().stream().map(c -> c.toInfo(now)).toList();
+    }
+
+    private static List<ToiletView> inBounds(ToiletCatalog.Version version, MarkerFilter bounds) {
+        List<ToiletView> out = new ArrayList<>();
+        for (ToiletView t : version.all()) {
+            if (t.latitude() == null || t.longitude() == null) continue;
+            if (bounds != null && bounds.hasBounds()
+                    && (t.latitude() < bounds.getSwLat() || t.latitude() > bounds.getNeLat()
+                    || t.longitude() < bounds.getSwLng() || t.longitude() > bounds.getNeLng())) continue;
+            out.add(t);
+        }
+        return out;
+    }
+
+    private static final class Cluster {
+        int count;
+        double sumLat;
+        double sumLng;
+        double bestRating;
+        // 주간 운영표 중 한 곳이라도 열려 있는 칸
+        final long[] open = new long[WeeklySchedule.ROWS * 2];
+
+        void add(double lat, double lng, Double rating, long[] bits) {
+            count++;
+            sumLat += lat;
+            sumLng += lng;
+            bestRating = Math.max(bestRating, rating == null ? 0.0 : rating);
+            for (int i = 0; i < open.length; i++) open[i] |= bits[i];
+        }
+
+        void merge(Cluster o) {
+            count += o.count;
+            sumLat += o.sumLat;
+            sumLng += o.sumLng;
+            bestRating = Math.max(bestRating, o.bestRating);
+            for (int i = 0; i < open.length; i++) open[i] |= o.open[i];
+        }
+
+        ClusterInfo toInfo(WeeklySchedule.Moment now) {
+            return ClusterInfo.builder()
+                    .latitude(sumLat / count)
+                    .longitude(sumLng / count)
+                    .count(count)
+                    .bestRating(bestRating)
+                    .isAnyOpenNow(WeeklySchedule.test(open, now))
+                    .build();
+        }
+    }
+
+    private static int clampZoom(int zoom) {
+        return Math.max(0, Math.min(CLUSTER_MAX_ZOOM, zoom));
+    }
+
+    // 줌 z에서 칸 한 변의 각도 (레벨이 하나 낮아질 때마다 2배)
+    private static double cellDeg(int z) {
+        return 360.0 / (1L << z) / CELLS_PER_TILE;
+    }
+
+    private static long cellKey(double lat, double lng, int z) {
+        double d = cellDeg(z);
+        return key((int) Math.floor(lat / d), (int) Math.floor(lng / d));
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
@@ -0,0 +1,64 @@
+package BuyThisDoHippo.Mapoop.domain.map.tile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 웹 메르카토르 타일 좌표 계산 (z/x/y, y는 북쪽부터)
+ * - 위경도 → 세계 좌표 (0~2^z, 타일 한 칸 = 1)
+ * - 타일 + 버퍼가 덮는 위경도 범위, 한 점이 걸치는 타일 목록
+ */
+public final class TileMath {
+
+    private static final double MAX_LAT = 85.05112878;
+
+    private TileMath() {}
+
+    public static double worldX(double lng, int z) {
+        return (lng + 180.0) / 360.0 * (1L << z);
+    }
+
+    public static double worldY(double lat, int z) {
+        double clamped = Math.max(-MAX_LAT, Math.min(MAX_LAT, lat));
+        double rad = Math.toRadians(clamped);
+        return (1.0 - Math.log(Math.tan(rad) + 1.0 / Math.cos(rad)) / Math.PI) / 2.0 * (1L << z);
+    }
+
+    public static double lng(double worldX, int z) {
+        return worldX / (1L << z) * 360.0 - 180.0;
+    }
+
+    public static double lat(double worldY, int z) {
+        double n = Math.PI * (1.0 - 2.0 * worldY / (1L << z));
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+
+    public static boolean isValid(int z, int x, int y) {
+        long n = 1L << z;
+        return x >= 0 && y >= 0 && x < n && y < n;
+    }
+
+    /** 타일 + 버퍼(타일 한 변 대비 비율)가 덮는 범위: {minLat, minLng, maxLat, maxLng} */
+    public static double[] bounds(int z, int x, int y, double bufferRatio) {
+        return new double[]{
+                lat(y + 1 + bufferRatio, z), lng(x - bufferRatio, z),
+                lat(y - bufferRatio, z), lng(x + 1 + bufferRatio, z)};
+    }
+
+    /** 버퍼까지 포함해 (lat, lng) 점이 그려지는 타일들 (z, x, y) */
+    public static List<int[]> touchedTiles(double lat, double lng, int z, double bufferRatio) {
+        double wx = worldX(lng, z);
+        double wy = worldY(lat, z);
+        int x0 = (int) Math.floor(wx - bufferRatio);
+        int x1 = (int) Math.floor(wx + bufferRatio);
+        int y0 = (int) Math.floor(wy - bufferRatio);
+        int y1 = (int) Math.floor(wy + bufferRatio);
+        List<int[]> out = new ArrayList<>(4);
+        for (int x = x0; x <= x1; x++) {
+            for (int y = y0; y <= y1; y++) {
+                if (isValid(z, x, y)) out.add(new int[]{z, x, y});
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,149 @@
+package BuyThisDoHippo.Mapoop.domain.map.tile;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Mapbox Vector Tile (spec 2.1) 점(Point) 레이어 인코더
+ * - 레이어 하나, 피처마다 id + 타일 좌표 (0~extent, 버퍼 바깥은 호출자가 거름) + 속성
+ * - 속성 값: String / Boolean / Double / Long·Integer
+ * - 외부 protobuf 라이브러리 없이 필요한 필드만 직접 기록
+ */
+public final class VectorTileEncoder {
+
+    public static final String MEDIA_TYPE = "application/vnd.mapbox-vector-tile";
+
+    // Tile
+    private static final int TILE_LAYERS = 3;
+    // Layer
+    private static final int LAYER_NAME = 1;
+    private static final int LAYER_FEATURES = 2;
+    private static final int LAYER_KEYS = 3;
+    private static final int LAYER_VALUES = 4;
+    private static final int LAYER_EXTENT = 5;
+    private static final int LAYER_VERSION = 15;
+    // Feature
+    private static final int FEATURE_ID = 1;
+    private static final int FEATURE_TAGS = 2;
+    private static final int FEATURE_TYPE = 3;
+    private static final int FEATURE_GEOMETRY = 4;
+    private static final int GEOM_POINT = 1;
+    // Value
+    private static final int VALUE_STRING = 1;
+    private static final int VALUE_DOUBLE = 3;
+    private static final int VALUE_INT = 4;
+    private static final int VALUE_BOOL = 7;
+
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_LENGTH = 2;
+
+    private static final int CMD_MOVE_TO_ONCE = (1 & 0x7) | (1 << 3);
+
+    private VectorTileEncoder() {}
+
+    public record Feature(long id, int x, int y, Map<String, Object> attributes) {}
+
+    public static byte[] encode(String layerName, int extent, List<Feature> features) {
+        // 속성 키/값 사전 (등장 순서대로 번호)
+        Map<String, Integer> keys = new LinkedHashMap<>();
+        Map<Object, Integer> values = new LinkedHashMap<>();
+
+        Buffer layer = new Buffer();
+        layer.writeVarintField(LAYER_VERSION, 2);
+        layer.writeBytesField(LAYER_NAME, layerName.getBytes(StandardCharsets.UTF_8));
+
+        Buffer feature = new Buffer();
+        Buffer packed = new Buffer();
+        for (Feature f : features) {
+            feature.reset();
+            feature.writeVarintField(FEATURE_ID, f.id());
+
+            packed.reset();
+            for (Map.Entry<String, Object> a : f.attributes().entrySet()) {
+                if (a.getValue() == null) continue;
+                packed.writeVarint(keys.computeIfAbsent(a.getKey(), k -> keys.size()));
+                packed.writeVarint(values.computeIfAbsent(a.getValue(), v -> values.size()));
+            }
+            feature.writeBytesField(FEATURE_TAGS, packed);
+            feature.writeVarintField(FEATURE_TYPE, GEOM_POINT);
+
+            // MoveTo(1) + 커서(0,0) 기준 zigzag 변위
+            packed.reset();
+            packed.writeVarint(CMD_MOVE_TO_ONCE);
+            packed.writeVarint(zigzag(f.x()));
+            packed.writeVarint(zigzag(f.y()));
+            feature.writeBytesField(FEATURE_GEOMETRY, packed);
+
+            layer.writeBytesField(LAYER_FEATURES, feature);
+        }
+
+        for (String key : keys.keySet()) {
+            layer.writeBytesField(LAYER_KEYS, key.getBytes(StandardCharsets.UTF_8));
+        }
+        Buffer value = new Buffer();
+        for (Object v : values.keySet()) {
+            value.reset();
+            writeValue(value, v);
+            layer.writeBytesField(LAYER_VALUES, value);
+        }
+        layer.writeVarintField(LAYER_EXTENT, extent);
+
+        Buffer tile = new Buffer();
+        tile.writeBytesField(TILE_LAYERS, layer);
+        return tile.toByteArray();
+    }
+
+    private static void writeValue(Buffer out, Object v) {
+        if (v instanceof String s) {
+            out.writeBytesField(VALUE_STRING, s.getBytes(StandardCharsets.UTF_8));
+        } else if (v instanceof Boolean b) {
+            out.writeVarintField(VALUE_BOOL, b ? 1 : 0);
+        } else if (v instanceof Double d) {
+            out.writeTag(VALUE_DOUBLE, 1);
+            long bits = Double.doubleToLongBits(d);
+            for (int i = 0; i < 8; i++) out.write((int) (bits >>> (8 * i)));
+        } else if (v instanceof Long || v instanceof Integer) {
+            out.writeVarintField(VALUE_INT, ((Number) v).longValue());
+        } else {
+            out.writeBytesField(VALUE_STRING, String.valueOf(v).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static int zigzag(int n) {
+        return (n << 1) ^ (n >> 31);
+    }
+
+    // protobuf 기록용 버퍼 (reset 후 재사용)
+    private static final class Buffer extends ByteArrayOutputStream {
+
+        void writeTag(int field, int wireType) {
+            writeVarint(((long) field << 3) | wireType);
+        }
+
+        void writeVarint(long v) {
+            while ((v & ~0x7FL) != 0) {
+                write((int) ((v & 0x7F) | 0x80));
+                v >>>= 7;
+            }
+            write((int) v);
+        }
+
+        void writeVarintField(int field, long v) {
+            writeTag(field, WIRE_VARINT);
+            writeVarint(v);
+        }
+
+        void writeBytesField(int field, byte[] bytes) {
+            writeTag(field, WIRE_LENGTH);
+            writeVarint(bytes.length);
+            write(bytes, 0, bytes.length);
+        }
+
+        void writeBytesField(int field, Buffer nested) {
+            writeTag(field, WIRE_LENGTH);
+            writeVarint(nested.size());
+            write(nested.buf, 0, nested.size());
+        }
+    }
+}
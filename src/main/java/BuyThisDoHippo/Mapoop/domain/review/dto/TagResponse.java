@@ -5,11 +5,15 @@
 package BuyThisDoHippo.Mapoop.domain.review.dto;
 
 import BuyThisDoHippo.Mapoop.domain.tag.entity.Tag;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder // 빌더 패턴 자동 생성 (객체 생성을 깔끔하게)
+@NoArgsConstructor
+@AllArgsConstructor // 캐시 역직렬화용
 public class TagResponse {
     
     /**
@@ -19,9 +19,6 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
             Long userId, ReviewType type, Pageable pageable
     );
 
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.toilet.id = :toiletId AND r.type = 'ACTIVE'")
-    Double findAverageRatingByToiletId(@Param("toiletId") Long toiletId);
-
     Long countByToiletIdAndType(Long toiletId, ReviewType type);
 
     @Query("SELECT r FROM Review r WHERE r.user.id = :userId AND  r.toilet.id = :toiletId AND r.type = 'ACTIVE'")
@@ -34,8 +31,5 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT r.rating, COUNT(r) FROM Review r WHERE r.toilet.id = :toiletId AND r.type = 'ACTIVE' GROUP BY r.rating ORDER BY r.rating DESC")
     Object[] findRatingStatisticsByToiletId(@Param("toiletId") Long toiletId);
 
-    @Query("SELECT r.rating, COUNT(r) FROM Review r WHERE r.toilet.id = :toiletId AND r.type = 'ACTIVE' GROUP BY r.rating ORDER BY r.rating DESC")
-    java.util.List<Object[]> countByRatingGroupByToiletId(@Param("toiletId") Long toiletId);
-
     boolean existsByIdAndUserId(Long reviewId, Long userId);
 }
@@ -18,21 +18,30 @@ import BuyThisDoHippo.Mapoop.domain.tag.entity.Tag;
 import BuyThisDoHippo.Mapoop.domain.tag.repository.ReviewTagRepository;
 import BuyThisDoHippo.Mapoop.domain.tag.repository.TagRepository;
 import BuyThisDoHippo.Mapoop.domain.toilet.entity.Toilet;
+import BuyThisDoHippo.Mapoop.domain.toilet.event.ToiletChangedEvent;
 import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletRepository;
 import BuyThisDoHippo.Mapoop.domain.user.entity.User;
 import BuyThisDoHippo.Mapoop.domain.user.repository.UserRepository;
+import BuyThisDoHippo.Mapoop.global.cache.CacheCodec;
+import BuyThisDoHippo.Mapoop.global.cache.CacheCodecs;
+import BuyThisDoHippo.Mapoop.global.cache.CacheNamespace;
+import BuyThisDoHippo.Mapoop.global.cache.TwoLevelCache;
 import BuyThisDoHippo.Mapoop.global.common.CommonResponse;
 import BuyThisDoHippo.Mapoop.global.error.ApplicationException;
 import BuyThisDoHippo.Mapoop.global.error.CustomErrorCode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -45,6 +54,7 @@ import java.security.Principal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -61,10 +71,27 @@ public class ReviewService {
     private final ImageRepository imageRepository;
     private final ReviewImageRepository reviewImageRepository;
     private final ReviewImageService reviewImageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TwoLevelCache twoLevelCache;
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    // 화장실별 통계 캐시 키 (CacheNamespace.TOILET_STATS)
+    private static final String DISTRIBUTION_KEY = "dist:";
+    private static final String TOP_TAGS_KEY = "top_tags:";
+    private static final CacheCodec<List<TagResponse>> TAG_LIST = CacheCodecs.listOf(CacheCodec.of(
+            (tag, out) -> {
+                CacheCodecs.writeVarLong(out, tag.getTagId());
+                out.writeUTF(tag.getTagName());
+            },
+            in -> new TagResponse(CacheCodecs.readVarLong(in), in.readUTF())));
 
     @Autowired(required = false)
     private S3ImageService s3ImageService;
 
+    @PersistenceContext
+    private EntityManager em;
+
 
     /**
      * 특정 화장실 리뷰 목록 조회
@@ -143,11 +170,7 @@ public class ReviewService {
 
         saveReviewTags(savedReview, request.getTagIds());
 
-
-        toilet.increaseTotalReviews();       // 카운트 +1
-        toiletRepository.save(toilet);
-
-        updateToiletRating(toiletId);
+        updateToiletRating(toiletId, null, savedReview.getRating());
 
 
         log.info("리뷰 작성 완료 - 리뷰 ID: {}", savedReview.getId());
@@ -196,10 +219,8 @@ public class ReviewService {
             // 태그 저장
             saveReviewTags(savedReview, request.getTagIds());
 
-            toilet.increaseTotalReviews();       // 카운트 +1
-            toiletRepository.save(toilet);
-            // 화장실 평점 업데이트
-            updateToiletRating(toiletId);
+            // 화장실 평점 집계 (리뷰 수 포함)
+            updateToiletRating(toiletId, null, savedReview.getRating());
 
             log.info("이미지 포함 리뷰 작성 완료 - 리뷰 ID: {}", savedReview.getId());
 
@@ -264,12 +285,15 @@ public class ReviewService {
             throw new ApplicationException(CustomErrorCode.UNAUTHORIZED);
         }
 
+        // 삭제된 리뷰는 집계에 없으므로 별점 증감 없음
+        boolean active = review.getType() == ReviewType.ACTIVE;
+        Integer before = review.getRating();
         review.updateReview(request.getRating(), request.getTitle(), request.getContent());
 
         reviewTagRepository.deleteByReviewId(reviewId);
         saveReviewTags(review, request.getTagIds());
 
-        updateToiletRating(review.getToilet().getId());
+        updateToiletRating(review.getToilet().getId(), active ? before : null, active ? review.getRating() : null);
 
         log.info("리뷰 수정 완료 - 리뷰 ID: {}", reviewId);
 
@@ -289,15 +313,14 @@ public class ReviewService {
             throw new ApplicationException(CustomErrorCode.UNAUTHORIZED);
         }
 
-        Toilet toilet = review.getToilet();
         Long toiletId = review.getToilet().getId();
+        // 이미 삭제된 리뷰면 집계에서 다시 빼지 않음
+        Integer removed = review.getType() == ReviewType.ACTIVE ? review.getRating() : null;
         review.deleteReview();
 
         reviewTagRepository.deleteByReviewId(reviewId);
 
-        toilet.decreaseTotalReviews();   // 카운트 -1
-        toiletRepository.save(toilet);
-        updateToiletRating(toiletId);
+        updateToiletRating(toiletId, removed, null);
 
         log.info("리뷰 삭제 완료 - 리뷰 ID: {}", reviewId);
     }
@@ -317,19 +340,19 @@ public class ReviewService {
     public List<TagResponse> getTopTagsByToiletId(Long toiletId) {
         log.info("화장실 인기 태그 TOP 3 조회 - 화장실 ID: {}", toiletId);
 
-        List<Tag> topTags = reviewTagRepository.findTop3TagsByToiletId(toiletId);
-
-        return topTags.stream()
-                .map(TagResponse::from)
-                .collect(Collectors.toList());
+        return twoLevelCache.get(CacheNamespace.TOILET_STATS, TOP_TAGS_KEY + toiletId, TAG_LIST,
+                () -> reviewTagRepository.findTop3TagsByToiletId(toiletId).stream()
+                        .map(TagResponse::from)
+                        .collect(Collectors.toList()));
     }
 
     /**
-     * 특정 화장실의 평균 별점 조회
+     * 특정 화장실의 평균 별점 조회 (화장실 행의 집계 값)
      */
     public Double getAverageRating(Long toiletId) {
-        Double averageRating = reviewRepository.findAverageRatingByToiletId(toiletId);
-        return averageRating != null ? Math.round(averageRating * 10) / 10.0 : 0.0;
+        return toiletRepository.findById(toiletId)
+                .map(Toilet::getAvgRating)
+                .orElse(0.0);
     }
 
     /**
@@ -344,43 +367,30 @@ public class ReviewService {
      */
     public Object getRatingDistribution(Long toiletId) {
         log.info("화장실 평점 분포 조회 - 화장실 ID: {}", toiletId);
-        
-        // 전체 리뷰 개수
-        Long totalReviews = getReviewCount(toiletId);
-        
-        // 각 별점별 개수 조회 (1점~5점)
-        List<Object[]> ratingCounts = reviewRepository.countByRatingGroupByToiletId(toiletId);
-        
+        // [전체 리뷰 수, 1점 수, ..., 5점 수]
+        long[] counts = twoLevelCache.get(CacheNamespace.TOILET_STATS, DISTRIBUTION_KEY + toiletId,
+                CacheCodecs.longArray(), () -> loadRatingCounts(toiletId));
+        long totalReviews = counts[0];
+
         // 분포 데이터 생성
         List<Object> distribution = new ArrayList<>();
-        
+
         for (int rating = 5; rating >= 1; rating--) {
-            Long count = 0L;
-            
-            // 해당 별점의 개수 찾기
-            for (Object[] result : ratingCounts) {
-                Integer dbRating = (Integer) result[0];
-                Long dbCount = (Long) result[1];
-                
-                if (dbRating.equals(rating)) {
-                    count = dbCount;
-                    break;
-                }
-            }
-            
+            long count = counts[rating];
+
             // 퍼센테이지 계산
             double percentage = totalReviews > 0 ? Math.round((count * 100.0 / totalReviews) * 10) / 10.0 : 0.0;
-            
+
             // 분포 객체 생성
             Object ratingData = Map.of(
                 "rating", rating,
                 "count", count,
                 "percentage", percentage
             );
-            
+
             distribution.add(ratingData);
         }
-        
+
         // 최종 응답 객체
         return Map.of(
             "totalReviews", totalReviews,
@@ -388,6 +398,21 @@ public class ReviewService {
         );
     }
 
+    // 화장실 행의 별점별 개수 (리뷰 GROUP BY 없음)
+    private long[] loadRatingCounts(Long toiletId) {
+        long[] counts = new long[6];
+        ToiletRepository.RatingHistogram h = toiletRepository.findRatingHistogram(toiletId);
+        if (h == null) return counts;
+
+        counts[0] = h.getRatingCount();
+        counts[1] = h.getRating1();
+        counts[2] = h.getRating2();
+        counts[3] = h.getRating3();
+        counts[4] = h.getRating4();
+        counts[5] = h.getRating5();
+        return counts;
+    }
+
     /**
      * 탑3 태그에 특정 태그가 포함된 화장실 ID 목록 조회
      * 검색 필터링에서 상태 태그 기반으로 화장실을 찾을 때 사용
@@ -497,13 +522,52 @@ public class ReviewService {
         };
     }
 
-    private void updateToiletRating(Long toiletId) {
-        Double averageRating = getAverageRating(toiletId);
+    /**
+     * 화장실 평점 집계 갱신 (리뷰 작성/수정/삭제와 같은 트랜잭션)
+     * removed/added: 집계에서 빠지는/더해지는 별점 (없으면 null)
+     * → 화장실 행의 합계/개수/별점별 개수/평균/리뷰 수를 SQL 증감 한 번으로 (리뷰 AVG 재계산 없음)
+     */
+    private void updateToiletRating(Long toiletId, Integer removed, Integer added) {
+        if (!Objects.equals(removed, added)) {
+            int[] histogram = new int[6];
+            if (removed != null && removed >= 1 && removed <= 5) histogram[removed]--;
+            if (added != null && added >= 1 && added <= 5) histogram[added]++;
+            toiletRepository.applyRatingDelta(toiletId,
+                    (long) (added == null ? 0 : added) - (removed == null ? 0 : removed),
+                    (added == null ? 0 : 1) - (removed == null ? 0 : 1),
+                    histogram[1], histogram[2], histogram[3], histogram[4], histogram[5]);
+
+            // 일괄 UPDATE는 영속성 컨텍스트를 거치지 않음 → 이미 읽은 화장실도 새 값으로 (커밋 후 카탈로그 재조회가 이 객체를 봄)
+            Toilet toilet = findToiletById(toiletId);
+            em.refresh(toilet);
+
+            log.info("화장실 평점 집계 갱신 - 화장실 ID: {}, 평균 별점: {}, 리뷰 수: {}",
+                    toiletId, toilet.getAvgRating(), toilet.getRatingCount());
+        }
+        eventPublisher.publishEvent(new ToiletChangedEvent(toiletId));
+        twoLevelCache.evict(CacheNamespace.TOILET_STATS, DISTRIBUTION_KEY + toiletId);
+        twoLevelCache.evict(CacheNamespace.TOILET_STATS, TOP_TAGS_KEY + toiletId);
+    }
 
-        Toilet toilet = findToiletById(toiletId);
-        toilet.updateAverageRating(averageRating);
+    /**
+     * 평점 집계 보정: 리뷰(ACTIVE)에서 다시 센 값과 다른 화장실만 덮어씀
+     * (증감 누락, DB 직접 수정 등으로 어긋난 경우) → 고친 화장실은 변경 이벤트 발행
+     */
+    @Scheduled(fixedDelayString = "${app.rating-reconcile.interval-ms:21600000}",
+            initialDelayString = "${app.rating-reconcile.interval-ms:21600000}")
+    @Transactional
+    public void reconcileRatings() {
+        List<Long> drifted = toiletRepository.findRatingDriftIds();
+        if (drifted.isEmpty()) return;
 
-        log.info("화장실 평균 별점 업데이트 - 화장실 ID: {}, 평균 별점: {}", toiletId, averageRating);
+        for (int from = 0; from < drifted.size(); from += RECONCILE_CHUNK_SIZE) {
+            toiletRepository.reconcileRatings(drifted.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, drifted.size())));
+        }
+        for (Long toiletId : drifted) {
+            eventPublisher.publishEvent(new ToiletChangedEvent(toiletId));
+            twoLevelCache.evict(CacheNamespace.TOILET_STATS, DISTRIBUTION_KEY + toiletId);
+        }
+        log.warn("화장실 평점 집계 보정 - {}건", drifted.size());
     }
 
     /**
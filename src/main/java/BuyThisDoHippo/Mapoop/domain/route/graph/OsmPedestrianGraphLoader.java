@@ -0,0 +1,106 @@
+package BuyThisDoHippo.Mapoop.domain.route.graph;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * OSM XML 추출본(.osm / .osm.gz) → 보행 그래프
+ * - 걸을 수 있는 highway 만 사용 (고속도로/자동차 전용도로 제외, foot=no/access=private 제외)
+ * - 계단은 같은 거리라도 느리므로 가중치 보정
+ * - 실제로 길에 쓰인 노드만 그래프에 남김
+ */
+public final class OsmPedestrianGraphLoader {
+
+    private static final Set<String> WALKABLE = Set.of(
+            "footway", "pedestrian", "path", "steps", "living_street", "residential", "service",
+            "unclassified", "track", "corridor", "cycleway", "crossing",
+            "tertiary", "tertiary_link", "secondary", "secondary_link", "primary", "primary_link");
+    private static final Set<String> NO_ACCESS = Set.of("no", "private");
+    private static final double STEPS_FACTOR = 1.5;
+
+    private OsmPedestrianGraphLoader() {}
+
+    public static PedestrianGraph load(Path path) throws IOException {
+        try (InputStream raw = new BufferedInputStream(Files.newInputStream(path));
+             InputStream in = path.toString().endsWith(".gz") ? new GZIPInputStream(raw) : raw) {
+            return parse(in);
+        } catch (XMLStreamException e) {
+            throw new IOException("OSM 파일 파싱 실패: " + path, e);
+        }
+    }
+
+    private static PedestrianGraph parse(InputStream in) throws XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        XMLStreamReader xml = factory.createXMLStreamReader(in);
+
+        Map<Long, double[]> osmNodes = new HashMap<>();
+        Map<Long, Integer> graphIndex = new HashMap<>();
+        PedestrianGraph.Builder builder = new PedestrianGraph.Builder();
+
+        // 현재 읽는 way
+        List<Long> refs = null;
+        Map<String, String> tags = null;
+
+        while (xml.hasNext()) {
+            int ev = xml.next();
+            if (ev == XMLStreamConstants.START_ELEMENT) {
+                switch (xml.getLocalName()) {
+                    case "node" -> osmNodes.put(Long.parseLong(xml.getAttributeValue(null, "id")), new double[]{
+                            Double.parseDouble(xml.getAttributeValue(null, "lat")),
+                            Double.parseDouble(xml.getAttributeValue(null, "lon"))});
+                    case "way" -> {
+                        refs = new ArrayList<>();
+                        tags = new HashMap<>();
+                    }
+                    case "nd" -> {
+                        if (refs != null) refs.add(Long.parseLong(xml.getAttributeValue(null, "ref")));
+                    }
+                    case "tag" -> {
+                        if (tags != null) tags.put(xml.getAttributeValue(null, "k"), xml.getAttributeValue(null, "v"));
+                    }
+                    default -> { }
+                }
+            } else if (ev == XMLStreamConstants.END_ELEMENT && "way".equals(xml.getLocalName())) {
+                if (refs != null && isWalkable(tags)) {
+                    double factor = "steps".equals(tags.get("highway")) ? STEPS_FACTOR : 1.0;
+                    int prev = -1;
+                    for (Long ref : refs) {
+                        double[] p = osmNodes.get(ref);
+                        if (p == null) {
+                            prev = -1;
+                            continue;
+                        }
+                        int v = graphIndex.computeIfAbsent(ref, k -> builder.addNode(p[0], p[1]));
+                        if (prev >= 0) builder.addEdge(prev, v, factor);
+                        prev = v;
+                    }
+                }
+                refs = null;
+                tags = null;
+            }
+        }
+        xml.close();
+        return builder.build();
+    }
+
+    private static boolean isWalkable(Map<String, String> tags) {
+        String highway = tags.get("highway");
+        if (highway == null) return false;
+        String foot = tags.get("foot");
+        if (foot != null && NO_ACCESS.contains(foot)) return false;
+        if ("yes".equals(foot) || "designated".equals(foot)) return true;
+        if (NO_ACCESS.contains(tags.getOrDefault("access", ""))) return false;
+        return WALKABLE.contains(highway);
+    }
+}
@@ -0,0 +1,165 @@
+package BuyThisDoHippo.Mapoop.domain.route.graph;
+
+import BuyThisDoHippo.Mapoop.global.common.GeoUtils;
+
+import java.util.*;
+
+/**
+ * 보행 그래프 (불변, CSR 인접 배열)
+ * - 노드: 위경도 (도)
+ * - 간선: offsets[v] ~ offsets[v+1] 구간의 targets / weights(m), 양방향은 간선 두 개로 저장
+ * - 좌표 → 가장 가까운 노드 스냅용 격자 (SNAP_CELL_DEG 칸)
+ */
+public final class PedestrianGraph {
+
+    /** 스냅 격자 한 칸 (0.002° ≒ 220m) */
+    private static final double SNAP_CELL_DEG = 0.002;
+
+    private final double[] lat;
+    private final double[] lng;
+    private final int[] offsets;
+    private final int[] targets;
+    private final float[] weights;
+    private final Map<Long, int[]> snapCells;
+
+    private PedestrianGraph(double[] lat, double[] lng, int[] offsets, int[] targets, float[] weights) {
+        this.lat = lat;
+        this.lng = lng;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.snapCells = buildSnapCells(lat, lng);
+    }
+
+    public int nodeCount() {
+        return lat.length;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    public double lat(int node) {
+        return lat[node];
+    }
+
+    public double lng(int node) {
+        return lng[node];
+    }
+
+    /** node 의 간선 구간 [edgeStart, edgeEnd) */
+    public int edgeStart(int node) {
+        return offsets[node];
+    }
+
+    public int edgeEnd(int node) {
+        return offsets[node + 1];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public float weight(int edge) {
+        return weights[edge];
+    }
+
+    /** 가까운 노드 (maxMeters 안에 없으면 -1) */
+    public int nearestNode(double qLat, double qLng, double maxMeters) {
+        int row0 = cell(qLat);
+        int col0 = cell(qLng);
+        int reach = (int) Math.ceil(maxMeters / (SNAP_CELL_DEG * GeoUtils.METERS_PER_DEGREE
+                * Math.max(Math.cos(Math.toRadians(qLat)), 0.1)));
+        int best = -1;
+        double bestMeters = maxMeters;
+        for (int r = row0 - reach; r <= row0 + reach; r++) {
+            for (int c = col0 - reach; c <= col0 + reach; c++) {
+                int[] nodes = snapCells.get(key(r, c));
+                if (nodes == null) continue;
+                for (int v : nodes) {
+                    double d = GeoUtils.haversineMeters(qLat, qLng, lat[v], lng[v]);
+                    if (d <= bestMeters) {
+                        bestMeters = d;
+                        best = v;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private static Map<Long, int[]> buildSnapCells(double[] lat, double[] lng) {
+        Map<Long, List<Integer>> lists = new HashMap<>();
+        for (int v = 0; v < lat.length; v++) {
+            lists.computeIfAbsent(key(cell(lat[v]), cell(lng[v])), k -> new ArrayList<>()).add(v);
+        }
+        Map<Long, int[]> cells = new HashMap<>(lists.size() * 2);
+        lists.forEach((k, v) -> cells.put(k, v.stream().mapToInt(Integer::intValue).toArray()));
+        return cells;
+    }
+
+    private static int cell(double deg) {
+        return (int) Math.floor(deg / SNAP_CELL_DEG);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    /** 노드/간선을 모아 CSR로 압축 */
+    public static final class Builder {
+        private double[] lat = new double[1024];
+        private double[] lng = new double[1024];
+        private int nodes;
+        private int[] from = new int[1024];
+        private int[] to = new int[1024];
+        private float[] w = new float[1024];
+        private int edges;
+
+        public int addNode(double nodeLat, double nodeLng) {
+            if (nodes == lat.length) {
+                lat = Arrays.copyOf(lat, nodes * 2);
+                lng = Arrays.copyOf(lng, nodes * 2);
+            }
+            lat[nodes] = nodeLat;
+            lng[nodes] = nodeLng;
+            return nodes++;
+        }
+
+        /** 양방향 간선, 가중치 = 직선 거리 × factor (계단 등 느린 구간 보정) */
+        public void addEdge(int a, int b, double factor) {
+            if (a == b) return;
+            float meters = (float) (GeoUtils.haversineMeters(lat[a], lng[a], lat[b], lng[b]) * factor);
+            add(a, b, meters);
+            add(b, a, meters);
+        }
+
+        private void add(int a, int b, float meters) {
+            if (edges == from.length) {
+                from = Arrays.copyOf(from, edges * 2);
+                to = Arrays.copyOf(to, edges * 2);
+                w = Arrays.copyOf(w, edges * 2);
+            }
+            from[edges] = a;
+            to[edges] = b;
+            w[edges] = meters;
+            edges++;
+        }
+
+        public PedestrianGraph build() {
+            int[] offsets = new int[nodes + 1];
+            for (int i = 0; i < edges; i++) offsets[from[i] + 1]++;
+            for (int v = 0; v < nodes; v++) offsets[v + 1] += offsets[v];
+
+            int[] cursor = Arrays.copyOf(offsets, nodes);
+            int[] targets = new int[edges];
+            float[] weights = new float[edges];
+            for (int i = 0; i < edges; i++) {
+                int slot = cursor[from[i]]++;
+                targets[slot] = to[i];
+                weights[slot] = w[i];
+            }
+            return new PedestrianGraph(Arrays.copyOf(lat, nodes), Arrays.copyOf(lng, nodes), offsets, targets, weights);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package BuyThisDoHippo.Mapoop.domain.route.service;
+
+import BuyThisDoHippo.Mapoop.domain.route.graph.OsmPedestrianGraphLoader;
+import BuyThisDoHippo.Mapoop.domain.route.graph.PedestrianGraph;
+import BuyThisDoHippo.Mapoop.global.common.GeoUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 보행 그래프 기반 도보 거리 계산
+ * - 기동 시 app.routing.graph-path 의 OSM 추출본을 메모리 그래프로 적재 (경로 없으면 비활성 → 호출자가 직선 거리로 추정)
+ * - 출발점 하나 → 후보 여러 개를 한 번의 다익스트라로 계산 (모든 후보 도달 또는 maxMeters 초과 시 중단)
+ * - 좌표 ↔ 노드 스냅 거리는 결과에 더함
+ */
+@Slf4j
+@Component
+public class WalkingRouter {
+
+    /** 출발점/후보를 길에 붙일 수 있는 최대 거리 */
+    private static final double MAX_SNAP_METERS = 300.0;
+
+    @Value("${app.routing.graph-path:}")
+    private String graphPath;
+
+    private volatile PedestrianGraph graph;
+
+    /** 보관해 두는 탐색 작업 공간 수 (넘치는 동시 요청은 새로 할당하고 반납 시 버림) */
+    private static final int WORKSPACE_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    // 탐색 작업 공간 풀 (노드 수만큼 할당, 세대 번호로 초기화 생략) - 요청마다 빌리고 반납
+    private final BlockingQueue<Workspace> workspaces = new ArrayBlockingQueue<>(WORKSPACE_POOL_SIZE);
+
+    public record Target(long id, double lat, double lng) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (graphPath == null || graphPath.isBlank()) {
+            log.info("보행 그래프 경로 미설정 - 직선 거리로 도보 시간 추정");
+            return;
+        }
+        Path path = Path.of(graphPath);
+        if (!Files.isReadable(path)) {
+            log.warn("보행 그래프 파일을 읽을 수 없음 - {}", path);
+            return;
+        }
+        try {
+            long started = System.nanoTime();
+            PedestrianGraph loaded = OsmPedestrianGraphLoader.load(path);
+            graph = loaded;
+            log.info("보행 그래프 적재 완료 - 노드 {}, 간선 {}, {}ms",
+                    loaded.nodeCount(), loaded.edgeCount(), (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            log.error("보행 그래프 적재 실패 - 직선 거리로 대체: ", e);
+        }
+    }
+
+    public boolean isReady() {
+        return graph != null;
+    }
+
+    /**
+     * 출발점 → 후보별 도보 거리 (m)
+     * - maxMeters 안에 닿지 못한 후보는 결과에서 빠짐
+     * - 길에 붙일 수 없는 후보는 직선 거리로 채움
+     * - 그래프가 없거나 출발점을 길에 붙일 수 없으면 null (호출자가 직선 거리로 추정)
+     */
+    public Map<Long, Integer> walkingMeters(double lat, double lng, List<Target> targets, int maxMeters) {
+        PedestrianGraph g = graph;
+        if (g == null) return null;
+        int source = g.nearestNode(lat, lng, MAX_SNAP_METERS);
+        if (source < 0) return null;
+        double sourceSnap = GeoUtils.haversineMeters(lat, lng, g.lat(source), g.lng(source));
+
+        Map<Long, Integer> result = new HashMap<>(targets.size() * 2);
+        // 노드 → 그 노드에 붙은 후보들
+        Map<Integer, List<Target>> byNode = new HashMap<>();
+        Map<Long, Double> snapMeters = new HashMap<>();
+        for (Target t : targets) {
+            int node = g.nearestNode(t.lat(), t.lng(), MAX_SNAP_METERS);
+            if (node < 0) {
+                int straight = (int) Math.round(GeoUtils.haversineMeters(lat, lng, t.lat(), t.lng()));
+                if (straight <= maxMeters) result.put(t.id(), straight);
+                continue;
+            }
+            byNode.computeIfAbsent(node, k -> new ArrayList<>()).add(t);
+            snapMeters.put(t.id(), GeoUtils.haversineMeters(t.lat(), t.lng(), g.lat(node), g.lng(node)));
+        }
+        if (byNode.isEmpty()) return result;
+
+        float limit = (float) (maxMeters - sourceSnap);
+        Workspace ws = borrow(g);
+        try {
+            ws.search(g, source, limit, byNode.size(), node -> {
+                List<Target> hit = byNode.get(node);
+                if (hit == null) return false;
+                for (Target t : hit) {
+                    int meters = (int) Math.round(sourceSnap + ws.dist(node) + snapMeters.get(t.id()));
+                    if (meters <= maxMeters) result.put(t.id(), meters);
+                }
+                return true;
+            });
+        } finally {
+            release(ws);
+        }
+        return result;
+    }
+
+    private Workspace borrow(PedestrianGraph g) {
+        Workspace ws;
+        // 그래프가 바뀌어 크기가 다른 작업 공간은 버림
+        while ((ws = workspaces.poll()) != null) {
+            if (ws.size == g.nodeCount()) return ws;
+        }
+        return new Workspace(g.nodeCount());
+    }
+
+    private void release(Workspace ws) {
+        PedestrianGraph g = graph;
+        if (g != null && ws.size == g.nodeCount()) workspaces.offer(ws);
+    }
+
+    @FunctionalInterface
+    private interface SettleListener {
+        /** 확정된 노드가 후보 노드면 true */
+        boolean settled(int node);
+    }
+
+    /**
+     * 다익스트라 작업 공간
+     * - dist/stamp: 노드별 최단 거리와 이번 탐색의 세대 번호 (세대가 다르면 미방문)
+     * - heap: (거리 float 비트 << 32 | 노드) long 이진 힙 → 양수 float 비트는 크기 순서와 같음
+     */
+    private static final class Workspace {
+        final int size;
+        final float[] dist;
+        final int[] stamp;
+        final boolean[] done;
+        long[] heap = new long[256];
+        int heapSize;
+        int generation;
+
+        Workspace(int size) {
+            this.size = size;
+            this.dist = new float[size];
+            this.stamp = new int[size];
+            this.done = new boolean[size];
+        }
+
+        float dist(int node) {
+            return dist[node];
+        }
+
+        void search(PedestrianGraph g, int source, float limit, int targetCount, SettleListener listener) {
+            if (++generation == 0) {
+                Arrays.fill(stamp, 0);
+                generation = 1;
+            }
+            heapSize = 0;
+            visit(source, 0f);
+
+            int remaining = targetCount;
+            while (heapSize > 0 && remaining > 0) {
+                long top = poll();
+                int v = (int) top;
+                float d = Float.intBitsToFloat((int) (top >>> 32));
+                if (done[v] || d > dist[v]) continue;
+                if (d > limit) break;
+                done[v] = true;
+                if (listener.settled(v)) remaining--;
+
+                for (int e = g.edgeStart(v), end = g.edgeEnd(v); e < end; e++) {
+                    int w = g.target(e);
+                    float nd = d + g.weight(e);
+                    if (nd > limit) continue;
+                    if (stamp[w] != generation || nd < dist[w]) visit(w, nd);
+                }
+            }
+        }
+
+        private void visit(int node, float d) {
+            if (stamp[node] != generation) {
+                stamp[node] = generation;
+                done[node] = false;
+            }
+            dist[node] = d;
+            push(((long) Float.floatToIntBits(d) << 32) | (node & 0xffffffffL));
+        }
+
+        private void push(long x) {
+            if (heapSize == heap.length) heap = Arrays.copyOf(heap, heapSize * 2);
+            int i = heapSize++;
+            while (i > 0) {
+                int p = (i - 1) >>> 1;
+                if (heap[p] <= x) break;
+                heap[i] = heap[p];
+                i = p;
+            }
+            heap[i] = x;
+        }
+
+        private long poll() {
+            long top = heap[0];
+            long last = heap[--heapSize];
+            int i = 0;
+            int half = heapSize >>> 1;
+            while (i < half) {
+                int c = 2 * i + 1;
+                if (c + 1 < heapSize && heap[c + 1] < heap[c]) c++;
+                if (last <= heap[c]) break;
+                heap[i] = heap[c];
+                i = c;
+            }
+            heap[i] = last;
+            return top;
+        }
+    }
+}
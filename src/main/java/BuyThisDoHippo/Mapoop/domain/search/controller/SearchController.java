@@ -1,17 +1,24 @@
 package BuyThisDoHippo.Mapoop.domain.search.controller;
 
 import BuyThisDoHippo.Mapoop.domain.search.dto.*;
+import BuyThisDoHippo.Mapoop.domain.search.service.SearchPopularityService;
 import BuyThisDoHippo.Mapoop.domain.search.service.SearchService;
 import BuyThisDoHippo.Mapoop.domain.toilet.dto.ToiletInfo;
 import BuyThisDoHippo.Mapoop.domain.toilet.entity.ToiletType;
 import BuyThisDoHippo.Mapoop.global.common.CommonResponse;
+import BuyThisDoHippo.Mapoop.global.common.ConditionalGet;
+import BuyThisDoHippo.Mapoop.global.common.NdjsonResponse;
 import BuyThisDoHippo.Mapoop.global.common.TagConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Arrays;
 import java.util.List;
@@ -24,17 +31,50 @@ import java.util.Map;
 public class SearchController {
 
     private final SearchService searchService;
+    private final SearchPopularityService searchPopularityService;
+    private final ObjectMapper objectMapper;
+
+    private static final int MAX_TRENDING = 50;
 
     @GetMapping("/results")
     public CommonResponse<SearchResultResponse> search(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Double lat,
             @RequestParam(required = false) Double lng,
+            @RequestParam(required = false) Integer radius,
             @RequestParam(required = false) Double minRating,
             @RequestParam(required = false) ToiletType type,
             @RequestParam(required = false) List<String> tags
     ) {
         log.debug("검색 요청 - 쿼리: '{}'",keyword);
+
+        SearchFilter filter = toFilter(keyword, lat, lng, radius, minRating, type, tags);
+        SearchResultResponse response = searchService.search(filter);
+        return CommonResponse.onSuccess(response, "검색 결과 조회 성공");
+    }
+
+    /**
+     * 같은 조건의 검색 결과를 NDJSON으로 (Accept: application/x-ndjson)
+     * 줄마다 ToiletInfo 하나
+     */
+    @GetMapping(value = "/results", produces = NdjsonResponse.MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> streamSearch(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(required = false) Integer radius,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) ToiletType type,
+            @RequestParam(required = false) List<String> tags
+    ) {
+        log.debug("검색 스트리밍 요청 - 쿼리: '{}'", keyword);
+
+        SearchFilter filter = toFilter(keyword, lat, lng, radius, minRating, type, tags);
+        return NdjsonResponse.of(objectMapper, searchService.streamSearch(filter));
+    }
+
+    private SearchFilter toFilter(String keyword, Double lat, Double lng, Integer radius,
+                                  Double minRating, ToiletType type, List<String> tags) {
         List<String> raw = (tags == null ? List.<String>of() :
                 tags.stream()
                         .flatMap(s -> Arrays.stream(s.split(",")))
@@ -51,18 +91,16 @@ public class SearchController {
                 .filter(t -> !t.equalsIgnoreCase(TagConstants.VIRTUAL_AVAILABLE))
                 .toList();
 
-        SearchFilter filter = SearchFilter.builder()
+        return SearchFilter.builder()
                 .keyword(keyword)
                 .lat(lat)
                 .lng(lng)
+                .radiusMeters(radius)
                 .minRating(minRating)
                 .type(type)
                 .tags(normalizedTags)
                 .requireAvailable(requireAvailable)
                 .build();
-
-        SearchResultResponse response = searchService.search(filter);
-        return CommonResponse.onSuccess(response, "검색 결과 조회 성공");
     }
 
     @GetMapping("/auto")
@@ -83,6 +121,19 @@ public class SearchController {
         return CommonResponse.onSuccess(data, "자동완성 조회 성공");
     }
 
+    /**
+     * 인기 검색어 (최근 검색일수록 가중치 큼)
+     */
+    @GetMapping("/trending")
+    public CommonResponse<List<TrendingKeyword>> trending(
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        log.debug("인기 검색어 조회");
+
+        List<TrendingKeyword> keywords = searchPopularityService.trending(Math.max(1, Math.min(limit, MAX_TRENDING)));
+        return CommonResponse.onSuccess(keywords, "인기 검색어 조회 성공");
+    }
+
     /**
      * 1. 가까운 화장실 목록 조회 (위도 경도 있다면)
      * 2. 리뷰 좋은 화장실 목록 조회 (없다면)
@@ -91,10 +142,16 @@ public class SearchController {
     public CommonResponse<SearchResultResponse> homeSearch(
             @RequestParam(required = false) Double lat,
             @RequestParam(required = false) Double lng,
-            @RequestParam(defaultValue = "16") Integer limit
+            @RequestParam(defaultValue = "16") Integer limit,
+            ServletWebRequest request
     ) {
         log.debug("홈화면 화장실 목록 조회");
 
+        // 데이터 버전 + 운영 칸이 같으면 304 (위치/개수는 URL에 포함)
+        if (ConditionalGet.notModified(request, searchService.homeETag())) {
+            return null;
+        }
+
         SearchResultResponse response = searchService.searchNearby(lat, lng, limit);
 
         if(lat != null && lng != null) {
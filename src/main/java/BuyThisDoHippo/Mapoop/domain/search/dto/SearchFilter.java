@@ -16,6 +16,7 @@ public class SearchFilter {
     private String keyword;
     private Double lat;   // 위도
     private Double lng;   // 경도
+    private Integer radiusMeters;   // 반경 제한 (m, 위치 있을 때만)
     private Double minRating;
     private ToiletType type;
     @Builder.Default
@@ -24,4 +25,6 @@ public class SearchFilter {
     private Boolean requireAvailable;  // true : 현재이용가능
 
     public boolean hasLocation() { return lat != null && lng != null; }
+
+    public boolean hasRadius() { return hasLocation() && radiusMeters != null && radiusMeters > 0; }
 }
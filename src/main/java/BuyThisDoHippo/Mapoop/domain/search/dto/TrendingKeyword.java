@@ -0,0 +1,17 @@
+package BuyThisDoHippo.Mapoop.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+/* 인기 검색어 (최근일수록 가중치가 큰 검색 횟수) */
+public class TrendingKeyword {
+    private int rank;
+    private String keyword;
+    private Double score;
+}
@@ -0,0 +1,218 @@
+package BuyThisDoHippo.Mapoop.domain.search.index;
+
+import BuyThisDoHippo.Mapoop.domain.search.dto.SearchSuggestionDto;
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletView;
+import BuyThisDoHippo.Mapoop.domain.toilet.event.ToiletViewChangedEvent;
+import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 자동완성 접두사 트라이 (화장실 이름/주소)
+ * - 키: 이름 전체(공백 제거) + 이름/주소의 단어들
+ * - 자모 분해 트라이: "강ㄴ", "가나" 처럼 입력 중인 음절도 접두사로 맞음
+ * - 초성 트라이: "ㄱㄴ" → "강남"
+ * - 평점 DESC 순으로 넣어서 노드마다 상위 MAX_SUGGESTIONS개만 보관 → 조회는 입력 길이만큼만 걸림
+ * - 기동 시 전체 적재, 이후 카탈로그 교체(ToiletViewChangedEvent, 커밋 이후) 때 이름/주소/평점 반영
+ *   재구성은 백그라운드 스레드에서 (몰린 요청은 한 번으로 합침) → 끝나면 스냅샷 교체, 조회는 잠금 없이 직전 스냅샷 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutocompleteIndex {
+
+    public static final int MAX_SUGGESTIONS = 8;
+
+    private final ToiletRepository toiletRepository;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    // 재구성 예약 여부 (예약 중 들어온 변경은 합쳐짐)
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "autocomplete-rebuild");
+        t.setDaemon(true);
+        return t;
+    });
+    private volatile boolean loaded = false;
+    private volatile Snapshot snapshot = new Snapshot(new Entry[0], new Node(), new Node());
+
+    private record Entry(long id, String name, String address, double rating) {}
+
+    private record Snapshot(Entry[] ranked, Node jamoRoot, Node chosungRoot) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Map<Long, Entry> next = new HashMap<>();
+        for (ToiletRepository.ToiletNameSummary s : toiletRepository.findAllNameSummaries()) {
+            next.put(s.getId(), new Entry(s.getId(), s.getName(), s.getAddress(), rating(s.getAvgRating())));
+        }
+        entries.clear();
+        entries.putAll(next);
+        rebuild();
+        loaded = true;
+    }
+
+    /** 아직 적재 전이면 false → 호출 측에서 기존 경로 사용 */
+    public boolean isReady() {
+        return loaded;
+    }
+
+    /** 카탈로그 교체 시점 (커밋된 값만 들어옴, 다른 노드 변경 포함) */
+    @EventListener
+    public void onToiletViewChanged(ToiletViewChangedEvent event) {
+        ToiletView after = event.after();
+        if (after == null || after.name() == null) {
+            if (event.before() != null && entries.remove(event.before().id()) != null) requestRebuild();
+            return;
+        }
+        Entry next = new Entry(after.id(), after.name(), after.address(), rating(after.avgRating()));
+        // 태그/이미지만 바뀐 경우는 재구성하지 않음
+        if (!next.equals(entries.put(after.id(), next))) requestRebuild();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    public List<SearchSuggestionDto> suggest(String keyword, int limit) {
+        if (keyword == null || keyword.isBlank()) return List.of();
+
+        Snapshot snap = snapshot;
+        Node node = HangulJamo.isChosungOnly(keyword)
+                ? snap.chosungRoot().find(HangulJamo.chosung(keyword))
+                : snap.jamoRoot().find(HangulJamo.decompose(keyword));
+        if (node == null) return List.of();
+
+        int n = Math.min(limit, node.topCount);
+        List<SearchSuggestionDto> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Entry e = snap.ranked()[node.top[i]];
+            out.add(SearchSuggestionDto.builder()
+                    .toiletId(e.id())
+                    .name(e.name())
+                    .rating(e.rating())
+                    .build());
+        }
+        return out;
+    }
+
+    private void requestRebuild() {
+        if (!loaded || !scheduled.compareAndSet(false, true)) return;
+        try {
+            rebuilder.execute(() -> {
+                // 실행 직전에 풀어 두면, 구성 중 들어온 변경은 다음 한 번으로 합쳐짐
+                scheduled.set(false);
+                try {
+                    rebuild();
+                } catch (Exception e) {
+                    log.error("자동완성 인덱스 구성 실패: ", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+        }
+    }
+
+    // 기동 적재와 백그라운드 재구성이 겹치지 않도록 직렬화
+    private synchronized void rebuild() {
+        Entry[] ranked = entries.values().stream()
+                .sorted(Comparator.comparingDouble(Entry::rating).reversed()
+                        .thenComparing(Entry::name)
+                        .thenComparingLong(Entry::id))
+                .toArray(Entry[]::new);
+
+        Node jamoRoot = new Node();
+        Node chosungRoot = new Node();
+        for (int rank = 0; rank < ranked.length; rank++) {
+            for (String key : keys(ranked[rank])) {
+                jamoRoot.insert(HangulJamo.decompose(key), rank);
+                chosungRoot.insert(HangulJamo.chosung(key), rank);
+            }
+        }
+        snapshot = new Snapshot(ranked, jamoRoot, chosungRoot);
+        log.info("자동완성 인덱스 구성 완료 - 화장실 수: {}", ranked.length);
+    }
+
+    private static Set<String> keys(Entry e) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(e.name().replaceAll("\\s+", ""));
+        addWords(keys, e.name());
+        if (e.address() != null) addWords(keys, e.address());
+        keys.remove("");
+        return keys;
+    }
+
+    private static void addWords(Set<String> keys, String s) {
+        for (String w : s.trim().split("\\s+")) keys.add(w);
+    }
+
+    private static double rating(Double avgRating) {
+        return avgRating == null ? 0.0 : avgRating;
+    }
+
+    /**
+     * 트라이 노드 (자식: 정렬된 char 배열 + 이진 탐색)
+     * top: 이 노드를 접두사로 갖는 화장실 순위 (평점순으로 들어오므로 앞에서부터 채우면 곧 상위 K개)
+     */
+    private static final class Node {
+        char[] labels = new char[0];
+        Node[] children = new Node[0];
+        final int[] top = new int[MAX_SUGGESTIONS];
+        int topCount;
+
+        void insert(String key, int rank) {
+            Node node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrCreate(key.charAt(i));
+                node.offer(rank);
+            }
+        }
+
+        Node find(String key) {
+            Node node = this;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                int idx = Arrays.binarySearch(node.labels, key.charAt(i));
+                node = idx >= 0 ? node.children[idx] : null;
+            }
+            return node == this ? null : node;
+        }
+
+        private void offer(int rank) {
+            if (topCount == MAX_SUGGESTIONS) return;
+            // 같은 화장실의 다른 키로 이미 들어왔으면 건너뜀 (순위가 같으면 마지막 칸에만 있음)
+            if (topCount > 0 && top[topCount - 1] == rank) return;
+            top[topCount++] = rank;
+        }
+
+        private Node childOrCreate(char c) {
+            int idx = Arrays.binarySearch(labels, c);
+            if (idx >= 0) return children[idx];
+
+            int at = -idx - 1;
+            char[] nl = new char[labels.length + 1];
+            Node[] nc = new Node[children.length + 1];
+            System.arraycopy(labels, 0, nl, 0, at);
+            System.arraycopy(children, 0, nc, 0, at);
+            System.arraycopy(labels, at, nl, at + 1, labels.length - at);
+            System.arraycopy(children, at, nc, at + 1, children.length - at);
+            Node child = new Node();
+            nl[at] = c;
+            nc[at] = child;
+            labels = nl;
+            children = nc;
+            return child;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package BuyThisDoHippo.Mapoop.domain.search.index;
+
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletCatalog;
+import BuyThisDoHippo.Mapoop.global.common.GeoUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 긴급 찾기 전용 격자 답안 (칸마다 미리 계산한 후보 행)
+ * - 작은 칸(EMERGENCY_CELL_DEG)마다 "칸 안 어느 점에서든 가까운 DEPTH개가 반드시 들어 있는" 후보 행 목록을 저장
+ *   칸 중심 기준 DEPTH번째 거리 + 칸 중심~모서리 거리 × 2 안의 화장실 전부 (삼각 부등식)
+ * - 요청은 칸 조회 + 후보 몇 개 하버사인 재정렬 → 결과는 ToiletSpatialIndex.nearest 와 같음
+ * - 후보 행은 좌표에만 의존 → 평점/이름/운영시간 변경은 그대로 사용, 좌표가 바뀐 스냅샷은 주기적으로 다시 계산
+ *   다시 계산하기 전까지(또는 미리 계산 안 된 칸)는 공간 인덱스로 바로 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmergencyIndex {
+
+    /** 칸 한 변 (0.001° ≒ 110m) → 후보 반경 여유가 작아 밀집 지역에서도 칸 후보 수십 개 */
+    static final double EMERGENCY_CELL_DEG = 0.001;
+    /** 칸마다 보장하는 최근접 개수 */
+    static final int DEPTH = 8;
+    /** 칸 하나의 후보 상한 (넘으면 그 칸은 공간 인덱스로 조회) */
+    private static final int MAX_CANDIDATES = 64;
+    /** 요청 중 즉석 계산해서 추가로 기억할 칸 수 상한 */
+    private static final int MAX_LAZY_CELLS = 50_000;
+    /** 정수 m 반올림 여유 */
+    private static final double ROUNDING_SLACK = 2.0;
+
+    private final ToiletCatalog toiletCatalog;
+
+    private volatile Cells cells = null;
+
+    /** 한 좌표 구성(geometry)에 대해 계산한 칸 → 후보 행 (후보가 상한을 넘은 칸은 빈 배열) */
+    private record Cells(ToiletSnapshot geometry, Map<Long, int[]> byCell, int precomputed) {}
+
+    private static final int[] OVERFLOW = new int[0];
+
+    /**
+     * 스냅샷 s 기준 가까운 순 k개
+     * 같은 좌표 구성으로 계산된 칸이면 칸 후보만 재정렬, 아니면 공간 인덱스
+     */
+    public List<ToiletSpatialIndex.Neighbor> nearest(ToiletSnapshot s, double lat, double lng, int k) {
+        Cells c = cells;
+        if (k > DEPTH || c == null || !s.sameGeometry(c.geometry())) {
+            return ToiletSpatialIndex.nearest(s, lat, lng, k);
+        }
+        int row = cell(lat);
+        int col = cell(lng);
+        long key = key(row, col);
+        int[] rows = c.byCell().get(key);
+        if (rows == null) {
+            rows = candidates(s, row, col);
+            if (c.byCell().size() < c.precomputed() + MAX_LAZY_CELLS) c.byCell().putIfAbsent(key, rows);
+        }
+        if (rows == OVERFLOW) {
+            return ToiletSpatialIndex.nearest(s, lat, lng, k);
+        }
+        return rerank(s, rows, lat, lng, k);
+    }
+
+    /**
+     * 좌표 구성이 바뀌었으면 화장실이 있는 칸과 그 주변 칸을 다시 계산 (요청 경로 밖에서)
+     * 평점/이름 등만 바뀐 버전은 같은 열을 공유하므로 다시 계산하지 않음
+     */
+    @Scheduled(fixedDelayString = "${app.emergency.refresh-ms:5000}")
+    public void refresh() {
+        if (!toiletCatalog.isReady()) return;
+        ToiletSnapshot s = toiletCatalog.current().spatial();
+        Cells c = cells;
+        if (c != null && s.sameGeometry(c.geometry())) return;
+
+        long started = System.nanoTime();
+        Set<Long> keys = new HashSet<>();
+        for (int i = 0; i < s.size(); i++) {
+            int row = cell(Math.toDegrees(s.lat[i]));
+            int col = cell(Math.toDegrees(s.lng[i]));
+            for (int dr = -1; dr <= 1; dr++) {
+                for (int dc = -1; dc <= 1; dc++) keys.add(key(row + dr, col + dc));
+            }
+        }
+        Map<Long, int[]> byCell = new ConcurrentHashMap<>(keys.size() * 2);
+        int overflow = 0;
+        for (long key : keys) {
+            int[] rows = candidates(s, (int) (key >> 32), (int) key);
+            if (rows == OVERFLOW) overflow++;
+            byCell.put(key, rows);
+        }
+        cells = new Cells(s, byCell, byCell.size());
+        log.info("긴급 찾기 칸 계산 완료 - 칸 {}개 (후보 초과 {}개), {}ms",
+                byCell.size(), overflow, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // 칸 안 어느 점에서든 최근접 DEPTH개를 포함하는 후보 행 (칸 중심 거리순)
+    private static int[] candidates(ToiletSnapshot s, int row, int col) {
+        double cLat = (row + 0.5) * EMERGENCY_CELL_DEG;
+        double cLng = (col + 0.5) * EMERGENCY_CELL_DEG;
+        List<ToiletSpatialIndex.Neighbor> near = ToiletSpatialIndex.nearest(s, cLat, cLng, MAX_CANDIDATES);
+        if (near.isEmpty()) return new int[0];
+
+        int depth = Math.min(DEPTH, near.size());
+        double cover = near.get(depth - 1).distanceMeters() + 2 * halfDiagonalMeters(row, col) + ROUNDING_SLACK;
+        int n = 0;
+        while (n < near.size() && near.get(n).distanceMeters() <= cover) n++;
+        // 상한까지 꽉 찼는데 반경 안이 더 있을 수 있음 → 이 칸은 공간 인덱스로
+        if (n == MAX_CANDIDATES && near.size() < s.size()) return OVERFLOW;
+
+        int[] rows = new int[n];
+        for (int i = 0; i < n; i++) rows[i] = s.rowIndex(near.get(i).toiletId());
+        return rows;
+    }
+
+    // 후보 전체 하버사인 → (거리, id) 순 상위 k개만 삽입 정렬로 유지
+    private static List<ToiletSpatialIndex.Neighbor> rerank(ToiletSnapshot s, int[] rows, double lat, double lng, int k) {
+        double qLat = Math.toRadians(lat);
+        double qLng = Math.toRadians(lng);
+        double qCos = Math.cos(qLat);
+        int want = Math.min(k, rows.length);
+        int[] dist = new int[want];
+        long[] ids = new long[want];
+        int size = 0;
+        for (int r : rows) {
+            int d = (int) Math.round(DistanceKernel.haversine(qLat, qLng, qCos, s.lat[r], s.lng[r], s.cosLat[r]));
+            long id = s.ids[r];
+            if (size == want && (d > dist[size - 1] || d == dist[size - 1] && id > ids[size - 1])) continue;
+            int i = size == want ? size - 1 : size++;
+            while (i > 0 && (dist[i - 1] > d || dist[i - 1] == d && ids[i - 1] > id)) {
+                dist[i] = dist[i - 1];
+                ids[i] = ids[i - 1];
+                i--;
+            }
+            dist[i] = d;
+            ids[i] = id;
+        }
+        List<ToiletSpatialIndex.Neighbor> out = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) out.add(new ToiletSpatialIndex.Neighbor(ids[i], dist[i]));
+        return out;
+    }
+
+    // 칸 중심 → 가장 먼 모서리 거리
+    private static double halfDiagonalMeters(int row, int col) {
+        double cLat = (row + 0.5) * EMERGENCY_CELL_DEG;
+        double cLng = (col + 0.5) * EMERGENCY_CELL_DEG;
+        double max = 0;
+        for (int dr = 0; dr <= 1; dr++) {
+            for (int dc = 0; dc <= 1; dc++) {
+                max = Math.max(max, GeoUtils.haversineMeters(cLat, cLng,
+                        (row + dr) * EMERGENCY_CELL_DEG, (col + dc) * EMERGENCY_CELL_DEG));
+            }
+        }
+        return max;
+    }
+
+    private static int cell(double deg) {
+        return (int) Math.floor(deg / EMERGENCY_CELL_DEG);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
@@ -0,0 +1,97 @@
+package BuyThisDoHippo.Mapoop.domain.search.index;
+
+import java.util.Locale;
+
+/**
+ * 한글 자모 분해 유틸 (자동완성 키 생성용)
+ * - decompose: 음절 → 호환 자모 나열, 겹모음/겹받침도 풀어서 "강ㄴ" 같은 입력 중간 상태가 접두사로 맞도록 함
+ * - chosung: 음절 → 초성만
+ * 한글이 아닌 문자는 소문자로, 공백은 제거
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String[] CHO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    /** 호환 자모 겹글자 → 홑글자 나열 (ㄳ, ㅘ 등 단독 입력 대비) */
+    private static final String COMPOUND = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private HangulJamo() {}
+
+    public static String decompose(String s) {
+        StringBuilder sb = new StringBuilder(s.length() * 3);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (isSyllable(c)) {
+                int idx = c - SYLLABLE_BASE;
+                sb.append(CHO[idx / (JUNG_COUNT * JONG_COUNT)])
+                  .append(JUNG[(idx % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT])
+                  .append(JONG[idx % JONG_COUNT]);
+                continue;
+            }
+            int compound = COMPOUND.indexOf(c);
+            if (compound >= 0) {
+                sb.append(COMPOUND_SPLIT[compound]);
+                continue;
+            }
+            sb.append(lower(c));
+        }
+        return sb.toString();
+    }
+
+    public static String chosung(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (isSyllable(c)) {
+                sb.append(CHO[(c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)]);
+            } else {
+                sb.append(lower(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 공백 제외 모든 글자가 자음(ㄱ~ㅎ)이면 초성 검색 */
+    public static boolean isChosungOnly(String s) {
+        boolean any = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c)) continue;
+            if (c < 'ㄱ' || c > 'ㅎ') return false;
+            any = true;
+        }
+        return any;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    private static String lower(char c) {
+        return String.valueOf(c).toLowerCase(Locale.ROOT);
+    }
+}
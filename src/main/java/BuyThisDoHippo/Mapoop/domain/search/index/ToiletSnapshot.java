@@ -0,0 +1,206 @@
+package BuyThisDoHippo.Mapoop.domain.search.index;
+
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.ToiletType;
+
+import java.util.*;
+
+/**
+ * 전체 화장실 열(column) 단위 불변 스냅샷
+ * - 행은 격자 칸 순으로 정렬 → 한 칸의 화장실이 배열의 연속 구간 [start, end)
+ * - 위경도는 라디안, cos(위도)는 미리 계산 (거리 계산 시 toRadians/cos 없음)
+ * - 변경은 새 스냅샷을 만들어 교체 (읽는 쪽은 잠금 없음)
+ */
+public final class ToiletSnapshot {
+
+    /** 격자 한 칸 크기 (0.01° ≒ 1.1km) */
+    static final double CELL_DEG = 0.01;
+
+    public static final byte FLAG_OPEN_24H = 1;
+    public static final byte FLAG_PARTNERSHIP = 1 << 1;
+    private static final byte NO_TYPE = -1;
+
+    public static final ToiletSnapshot EMPTY = build(List.of());
+
+    /** 스냅샷 한 행의 원본 값 */
+    public record Row(long id, double lat, double lng, Double rating, ToiletType type,
+                      boolean open24h, boolean partnership) {}
+
+    // 원본 행 (정렬 순서 그대로, 변경 시 새 스냅샷 재구성용)
+    private final Row[] rows;
+    final long[] ids;
+    final double[] lat;
+    final double[] lng;
+    final double[] cosLat;
+    final float[] rating;
+    final byte[] type;
+    final byte[] flags;
+    // 칸 키 → (start << 32 | end)
+    private final Map<Long, Long> cellRanges;
+    // id → 행 번호
+    private final Map<Long, Integer> rowOf;
+
+    private ToiletSnapshot(Row[] rows, Map<Long, Long> cellRanges, Map<Long, Integer> rowOf) {
+        int n = rows.length;
+        this.rows = rows;
+        this.ids = new long[n];
+        this.lat = new double[n];
+        this.lng = new double[n];
+        this.cosLat = new double[n];
+        this.rating = new float[n];
+        this.type = new byte[n];
+        this.flags = new byte[n];
+        this.cellRanges = cellRanges;
+        this.rowOf = rowOf;
+    }
+
+    public static ToiletSnapshot build(Collection<Row> rows) {
+        Row[] sorted = rows.toArray(new Row[0]);
+        long[] cells = new long[sorted.length];
+        Arrays.sort(sorted, Comparator.comparingLong((Row r) -> cellOf(r.lat(), r.lng())).thenComparingLong(Row::id));
+
+        int n = sorted.length;
+        ToiletSnapshot s = new ToiletSnapshot(sorted, new HashMap<>(), new HashMap<>(n * 2));
+        for (int i = 0; i < n; i++) {
+            Row r = sorted[i];
+            cells[i] = cellOf(r.lat(), r.lng());
+            s.ids[i] = r.id();
+            s.lat[i] = Math.toRadians(r.lat());
+            s.lng[i] = Math.toRadians(r.lng());
+            s.cosLat[i] = Math.cos(s.lat[i]);
+            s.rating[i] = r.rating() == null ? 0f : r.rating().floatValue();
+            s.type[i] = r.type() == null ? NO_TYPE : (byte) r.type().ordinal();
+            s.flags[i] = (byte) ((r.open24h() ? FLAG_OPEN_24H : 0) | (r.partnership() ? FLAG_PARTNERSHIP : 0));
+            s.rowOf.put(r.id(), i);
+        }
+        for (int i = 0; i < n; ) {
+            int j = i;
+            while (j < n && cells[j] == cells[i]) j++;
+            s.cellRanges.put(cells[i], ((long) i << 32) | j);
+            i = j;
+        }
+        return s;
+    }
+
+    /** 한 행 추가/교체한 새 스냅샷 */
+    public ToiletSnapshot with(Row row) {
+        Map<Long, Row> rows = toRows();
+        rows.put(row.id(), row);
+        return build(rows.values());
+    }
+
+    public ToiletSnapshot without(long id) {
+        if (!rowOf.containsKey(id)) return this;
+        Map<Long, Row> rows = toRows();
+        rows.remove(id);
+        return build(rows.values());
+    }
+
+    /** 평점만 바뀐 경우: 평점 열만 복사 (나머지 열/칸 구간은 공유) */
+    public ToiletSnapshot withRating(long id, Double avgRating) {
+        Integer i = rowOf.get(id);
+        if (i == null) return this;
+        Row[] nextRows = rows.clone();
+        Row r = rows[i];
+        nextRows[i] = new Row(r.id(), r.lat(), r.lng(), avgRating, r.type(), r.open24h(), r.partnership());
+        float[] nextRating = rating.clone();
+        nextRating[i] = avgRating == null ? 0f : avgRating.floatValue();
+        return new ToiletSnapshot(this, nextRows, nextRating);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean contains(long id) {
+        return rowOf.containsKey(id);
+    }
+
+    /** id → 행 번호 (없으면 -1) */
+    int rowIndex(long id) {
+        Integer i = rowOf.get(id);
+        return i == null ? -1 : i;
+    }
+
+    /** 좌표/행 순서가 같은 스냅샷인지 (평점만 바뀐 스냅샷은 같은 열을 공유) */
+    boolean sameGeometry(ToiletSnapshot other) {
+        return other != null && ids == other.ids && lat == other.lat && lng == other.lng;
+    }
+
+    /**
+     * 위경도 사각형(도 단위, 경계 포함) 안의 id
+     * - 사각형과 겹치는 칸의 구간만 읽음 (칸 수가 행 수보다 많으면 전체 순회가 더 쌈)
+     */
+    public long[] idsInBounds(double minLat, double minLng, double maxLat, double maxLng) {
+        double minLatRad = Math.toRadians(minLat), maxLatRad = Math.toRadians(maxLat);
+        double minLngRad = Math.toRadians(minLng), maxLngRad = Math.toRadians(maxLng);
+        int r0 = row(minLat), r1 = row(maxLat);
+        int c0 = col(minLng), c1 = col(maxLng);
+        long[] out = new long[16];
+        int count = 0;
+        if ((long) (r1 - r0 + 1) * (c1 - c0 + 1) > ids.length) {
+            for (int i = 0; i < ids.length; i++) {
+                if (!inBounds(i, minLatRad, minLngRad, maxLatRad, maxLngRad)) continue;
+                if (count == out.length) out = Arrays.copyOf(out, count * 2);
+                out[count++] = ids[i];
+            }
+            return Arrays.copyOf(out, count);
+        }
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                long range = cellRange(r, c);
+                if (range < 0) continue;
+                for (int i = (int) (range >>> 32), end = (int) range; i < end; i++) {
+                    if (!inBounds(i, minLatRad, minLngRad, maxLatRad, maxLngRad)) continue;
+                    if (count == out.length) out = Arrays.copyOf(out, count * 2);
+                    out[count++] = ids[i];
+                }
+            }
+        }
+        return Arrays.copyOf(out, count);
+    }
+
+    private boolean inBounds(int i, double minLatRad, double minLngRad, double maxLatRad, double maxLngRad) {
+        return lat[i] >= minLatRad && lat[i] <= maxLatRad && lng[i] >= minLngRad && lng[i] <= maxLngRad;
+    }
+
+    /** 칸 구간 (없으면 -1) */
+    long cellRange(int row, int col) {
+        Long range = cellRanges.get(cellKey(row, col));
+        return range == null ? -1 : range;
+    }
+
+    private Map<Long, Row> toRows() {
+        Map<Long, Row> map = new HashMap<>(rows.length * 2 + 2);
+        for (Row r : rows) map.put(r.id(), r);
+        return map;
+    }
+
+    private ToiletSnapshot(ToiletSnapshot base, Row[] rows, float[] rating) {
+        this.rows = rows;
+        this.ids = base.ids;
+        this.lat = base.lat;
+        this.lng = base.lng;
+        this.cosLat = base.cosLat;
+        this.rating = rating;
+        this.type = base.type;
+        this.flags = base.flags;
+        this.cellRanges = base.cellRanges;
+        this.rowOf = base.rowOf;
+    }
+
+    static int row(double latDeg) {
+        return (int) Math.floor(latDeg / CELL_DEG);
+    }
+
+    static int col(double lngDeg) {
+        return (int) Math.floor(lngDeg / CELL_DEG);
+    }
+
+    private static long cellOf(double latDeg, double lngDeg) {
+        return cellKey(row(latDeg), col(lngDeg));
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
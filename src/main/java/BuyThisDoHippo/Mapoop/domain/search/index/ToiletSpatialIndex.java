@@ -0,0 +1,147 @@
+package BuyThisDoHippo.Mapoop.domain.search.index;
+
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletCatalog;
+import BuyThisDoHippo.Mapoop.global.common.GeoUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 화장실 좌표 격자(grid) 인덱스
+ * - 열 단위 스냅샷(ToiletSnapshot) 위에서 동작, 격자 칸 = 배열의 연속 구간
+ * - 가까운 순 k개 조회 시 중심 칸부터 링 단위로 넓혀가며 탐색 (엔티티 로딩 없음)
+ *   칸마다 등장방형 근사로 먼저 거르고, 남은 후보만 하버사인
+ * - 스냅샷은 ToiletCatalog 버전과 함께 교체됨 (여기서는 읽기만)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ToiletSpatialIndex {
+
+    /** 이 링까지 넓혀도 k개를 확정 못하면 전체 스캔으로 전환 (≒ 70km) */
+    private static final int MAX_RING = 64;
+    /** 링 경계 거리 하한 보정 (경도 방향 근사 오차) */
+    private static final double BOUND_SAFETY = 0.99;
+    /** 근사 거리 선필터 여유 (근사가 실제보다 이만큼 작게 나와도 놓치지 않도록) */
+    private static final double PREFILTER_SLACK = 0.98;
+
+    private final ToiletCatalog toiletCatalog;
+
+    public record Neighbor(long toiletId, int distanceMeters) {}
+
+    public int size() {
+        return snapshot().size();
+    }
+
+    public ToiletSnapshot snapshot() {
+        return toiletCatalog.current().spatial();
+    }
+
+    /**
+     * (lat, lng)에서 가까운 순으로 최대 k개
+     * 결과는 거리 ASC, 같은 거리면 id ASC
+     */
+    public List<Neighbor> nearest(double lat, double lng, int k) {
+        return nearest(snapshot(), lat, lng, k);
+    }
+
+    /** 이미 잡아 둔 카탈로그 버전의 스냅샷에서 조회 (뷰와 같은 버전 사용) */
+    public static List<Neighbor> nearest(ToiletSnapshot s, double lat, double lng, int k) {
+        int total = s.size();
+        if (k <= 0 || total == 0) return List.of();
+        int want = Math.min(k, total);
+
+        double qLat = Math.toRadians(lat);
+        double qLng = Math.toRadians(lng);
+        double qCos = Math.cos(qLat);
+
+        // 현재까지 가장 먼 후보가 맨 위에 오는 최대 힙
+        PriorityQueue<Neighbor> heap = new PriorityQueue<>(want + 1, FARTHEST_FIRST);
+        double[] approx = new double[64];
+        int row0 = ToiletSnapshot.row(lat);
+        int col0 = ToiletSnapshot.col(lng);
+        int visited = 0;
+
+        for (int r = 0; r <= MAX_RING; r++) {
+            for (long cell : ring(row0, col0, r)) {
+                long range = s.cellRange((int) (cell >> 32), (int) cell);
+                if (range < 0) continue;
+                int from = (int) (range >>> 32);
+                int to = (int) range;
+                if (approx.length < to - from) approx = new double[to - from];
+
+                DistanceKernel.equirectangular(qLat, qLng, qCos, s.lat, s.lng, from, to, approx);
+                for (int i = from; i < to; i++) {
+                    if (heap.size() == want && approx[i - from] * PREFILTER_SLACK > heap.peek().distanceMeters() + 1) {
+                        continue;
+                    }
+                    double d = DistanceKernel.haversine(qLat, qLng, qCos, s.lat[i], s.lng[i], s.cosLat[i]);
+                    offer(heap, want, new Neighbor(s.ids[i], (int) Math.round(d)));
+                }
+                visited += to - from;
+            }
+            if (visited >= total) return drain(heap);
+            // 다음 링의 모든 점은 최소 ringBoundMeters 이상 떨어져 있음
+            if (heap.size() == want && heap.peek().distanceMeters() <= ringBoundMeters(lat, r)) {
+                return drain(heap);
+            }
+        }
+
+        // 데이터가 너무 멀리 흩어져 있는 경우: 전체 스캔 (근사 없이 하버사인)
+        heap.clear();
+        double[] exact = new double[total];
+        DistanceKernel.haversine(qLat, qLng, qCos, s.lat, s.lng, s.cosLat, 0, total, exact);
+        for (int i = 0; i < total; i++) {
+            offer(heap, want, new Neighbor(s.ids[i], (int) Math.round(exact[i])));
+        }
+        return drain(heap);
+    }
+
+    private static final Comparator<Neighbor> NEAREST_FIRST = Comparator
+            .comparingInt(Neighbor::distanceMeters)
+            .thenComparingLong(Neighbor::toiletId);
+    private static final Comparator<Neighbor> FARTHEST_FIRST = NEAREST_FIRST.reversed();
+
+    private static void offer(PriorityQueue<Neighbor> heap, int want, Neighbor n) {
+        if (heap.size() < want) {
+            heap.add(n);
+        } else if (NEAREST_FIRST.compare(n, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(n);
+        }
+    }
+
+    private static List<Neighbor> drain(PriorityQueue<Neighbor> heap) {
+        List<Neighbor> out = new ArrayList<>(heap);
+        out.sort(NEAREST_FIRST);
+        return out;
+    }
+
+    // 중심 칸에서 Chebyshev 거리 r인 칸들
+    private static long[] ring(int row0, int col0, int r) {
+        if (r == 0) return new long[]{cellKey(row0, col0)};
+        long[] out = new long[8 * r];
+        int i = 0;
+        for (int c = col0 - r; c <= col0 + r; c++) {
+            out[i++] = cellKey(row0 - r, c);
+            out[i++] = cellKey(row0 + r, c);
+        }
+        for (int rr = row0 - r + 1; rr <= row0 + r - 1; rr++) {
+            out[i++] = cellKey(rr, col0 - r);
+            out[i++] = cellKey(rr, col0 + r);
+        }
+        return out;
+    }
+
+    // 링 r 바깥 칸까지의 최소 거리 (경도 방향이 더 짧으므로 가장 높은 위도 기준)
+    private static double ringBoundMeters(double lat, int r) {
+        double farLat = Math.min(89.9, Math.abs(lat) + (r + 1) * ToiletSnapshot.CELL_DEG);
+        return r * ToiletSnapshot.CELL_DEG * GeoUtils.METERS_PER_DEGREE * Math.cos(Math.toRadians(farLat)) * BOUND_SAFETY;
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
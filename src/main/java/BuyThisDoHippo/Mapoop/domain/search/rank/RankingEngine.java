@@ -0,0 +1,125 @@
+package BuyThisDoHippo.Mapoop.domain.search.rank;
+
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletView;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.WeeklySchedule;
+import BuyThisDoHippo.Mapoop.global.common.GeoUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가중 점수 기반 정렬 (검색/지도/챗봇 공용)
+ * - 프로필(app.ranking.profiles)의 가중치로 후보마다 점수 하나 계산 → 정수 키 → TopKSelector 상위 K개
+ * - 동점은 입력 순서 (조회 쿼리/카탈로그가 평점 DESC → 이름 ASC로 줌)
+ * - 기본 프로필은 기존 정렬과 같은 키를 만듦 (거리 m ASC / 평점·관련도 소수 셋째 자리 DESC)
+ */
+@Component
+@RequiredArgsConstructor
+public class RankingEngine {
+
+    public static final String SEARCH = "search";
+    public static final String MAP = "map";
+    public static final String CHATBOT = "chatbot";
+
+    /** 점수 → 정수 키 배율 (소수 셋째 자리) */
+    private static final double KEY_SCALE = 1000.0;
+
+    private final RankingProperties rankingProperties;
+
+    /**
+     * 정렬 조건
+     * relevance: 키워드 검색 관련도 (없으면 null), tagIds: 요청 태그 (tagMatch용)
+     */
+    public record Query(Double lat, Double lng, Map<Long, Double> relevance, List<Long> tagIds,
+                        WeeklySchedule.Moment now) {
+
+        public boolean hasLocation() {
+            return lat != null && lng != null;
+        }
+    }
+
+    public ToiletRanking.Ranked rank(String profile, List<ToiletView> candidates, Query q, int limit) {
+        boolean located = q.hasLocation();
+        RankingWeights w = weights(profile, located, q.relevance() != null);
+
+        // 한 번 훑어서 특성 열 채우기 (가중치 0인 특성은 건너뜀)
+        int n = candidates.size();
+        RankingFeatures f = new RankingFeatures(n);
+        for (int i = 0; i < n; i++) {
+            ToiletView t = candidates.get(i);
+            int distance = located
+                    ? GeoUtils.distanceMeters(q.lat(), q.lng(), t.latitude(), t.longitude())
+                    : RankingFeatures.NO_DISTANCE;
+            f.set(i, distance,
+                    t.avgRating(),
+                    t.totalReviews(),
+                    w.getOpenNow() != 0 && q.now() != null && t.isOpenNow(q.now()),
+                    t.isPartnership(),
+                    w.getTagMatch() != 0 ? tagMatch(t, q.tagIds()) : 0.0,
+                    q.relevance() != null ? q.relevance().get(t.id()) : null);
+        }
+
+        int[] order = TopKSelector.select(keys(w, f, located), limit);
+        List<ToiletView> toilets = new ArrayList<>(order.length);
+        int[] distances = located ? new int[order.length] : null;
+        for (int i = 0; i < order.length; i++) {
+            toilets.add(candidates.get(order[i]));
+            if (located) distances[i] = f.distance(order[i]);
+        }
+        return new ToiletRanking.Ranked(toilets, distances);
+    }
+
+    /** 호출자가 직접 채운 특성 열 정렬 (목록 요소가 ToiletView가 아닌 경우) → 선택된 인덱스 */
+    public int[] order(String profile, RankingFeatures f, boolean located, boolean keyword, int limit) {
+        return TopKSelector.select(keys(weights(profile, located, keyword), f, located), limit);
+    }
+
+    private RankingWeights weights(String profile, boolean located, boolean keyword) {
+        return rankingProperties.profile(profile).select(located, keyword);
+    }
+
+    // 점수가 높을수록 작은 키 (TopKSelector는 키 ASC)
+    static int[] keys(RankingWeights w, RankingFeatures f, boolean located) {
+        double perMeter = located ? w.getDistancePerKm() / 1000.0 : 0.0;
+        double rating = w.getRating();
+        double reviews = w.getReviewCount();
+        double open = w.getOpenNow();
+        double partnership = w.getPartnership();
+        double tags = w.getTagMatch();
+        double relevance = w.getRelevance();
+
+        int[] keys = new int[f.size];
+        for (int i = 0; i < f.size; i++) {
+            double score = rating * f.rating[i]
+                    + relevance * f.relevance[i]
+                    + tags * f.tagMatch[i];
+            if (perMeter != 0) {
+                int d = f.distance[i];
+                score -= perMeter * (d < 0 ? Integer.MAX_VALUE : d);
+            }
+            if (reviews != 0) score += reviews * Math.log10(1.0 + f.reviewCount[i]);
+            if (f.openNow[i]) score += open;
+            if (f.partnership[i]) score += partnership;
+            keys[i] = toKey(score);
+        }
+        return keys;
+    }
+
+    private static int toKey(double score) {
+        long k = -Math.round(score * KEY_SCALE);
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, k));
+    }
+
+    private static double tagMatch(ToiletView t, List<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) return 0.0;
+        int hit = 0;
+        for (Long id : tagIds) {
+            if (id != null && Arrays.binarySearch(t.tagIds(), id) >= 0) hit++;
+        }
+        return (double) hit / tagIds.size();
+    }
+}
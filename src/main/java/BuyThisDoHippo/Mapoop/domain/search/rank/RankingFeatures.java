@@ -0,0 +1,52 @@
+package BuyThisDoHippo.Mapoop.domain.search.rank;
+
+/**
+ * 후보별 정렬 특성 열(column)
+ * - 후보 목록을 한 번 훑어 원시 배열로 채운 뒤 점수 계산은 배열만 봄
+ * - 가중치가 0인 특성은 채우지 않아도 됨
+ */
+public final class RankingFeatures {
+
+    /** 위치 없음 / 좌표 없음 */
+    public static final int NO_DISTANCE = -1;
+
+    final int size;
+    final int[] distance;
+    final double[] rating;
+    final int[] reviewCount;
+    final boolean[] openNow;
+    final boolean[] partnership;
+    final float[] tagMatch;
+    final double[] relevance;
+
+    public RankingFeatures(int size) {
+        this.size = size;
+        this.distance = new int[size];
+        this.rating = new double[size];
+        this.reviewCount = new int[size];
+        this.openNow = new boolean[size];
+        this.partnership = new boolean[size];
+        this.tagMatch = new float[size];
+        this.relevance = new double[size];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int distance(int i) {
+        return distance[i];
+    }
+
+    public RankingFeatures set(int i, int distanceMeters, Double rating, Integer reviewCount,
+                               boolean openNow, boolean partnership, double tagMatch, Double relevance) {
+        this.distance[i] = distanceMeters;
+        this.rating[i] = rating == null ? 0.0 : rating;
+        this.reviewCount[i] = reviewCount == null ? 0 : reviewCount;
+        this.openNow[i] = openNow;
+        this.partnership[i] = partnership;
+        this.tagMatch[i] = (float) tagMatch;
+        this.relevance[i] = relevance == null ? 0.0 : relevance;
+        return this;
+    }
+}
@@ -0,0 +1,25 @@
+package BuyThisDoHippo.Mapoop.domain.search.rank;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 엔드포인트별 정렬 프로필
+ * - located: 사용자 위치가 있을 때
+ * - unlocated: 위치가 없을 때 (거리 가중치는 무시됨)
+ * - keyword: 위치 없이 키워드 검색할 때 (없으면 unlocated)
+ * 설정하지 않은 값은 기존 정렬 (위치 O → 거리 ASC, 키워드 → 관련도 DESC, 그 외 평점 DESC)
+ */
+@Getter
+@Setter
+public class RankingProfile {
+
+    private RankingWeights located = RankingWeights.nearest();
+    private RankingWeights unlocated = RankingWeights.topRated();
+    private RankingWeights keyword = RankingWeights.mostRelevant();
+
+    public RankingWeights select(boolean hasLocation, boolean hasKeyword) {
+        if (hasLocation) return located;
+        return hasKeyword && keyword != null ? keyword : unlocated;
+    }
+}
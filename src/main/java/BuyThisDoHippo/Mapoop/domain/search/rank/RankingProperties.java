@@ -0,0 +1,29 @@
+package BuyThisDoHippo.Mapoop.domain.search.rank;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * app.ranking.profiles.<엔드포인트>.<located|unlocated|keyword>.<가중치>
+ * 가중치만 바꾸면 정렬이 바뀜 (코드 수정 없음)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.ranking")
+public class RankingProperties {
+
+    private Map<String, RankingProfile> profiles = new HashMap<>();
+
+    public RankingProfile profile(String name) {
+        RankingProfile p = profiles.get(name);
+        return p != null ? p : DEFAULT;
+    }
+
+    private static final RankingProfile DEFAULT = new RankingProfile();
+}
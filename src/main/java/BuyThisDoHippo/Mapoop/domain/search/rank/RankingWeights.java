@@ -0,0 +1,47 @@
+package BuyThisDoHippo.Mapoop.domain.search.rank;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 정렬 점수 가중치 (점수 = Σ 가중치 × 특성, 높을수록 앞)
+ * - distancePerKm: 1km 당 감점
+ * - rating: 평점(0~5) 1점 당
+ * - reviewCount: log10(1 + 리뷰 수) 당
+ * - openNow / partnership: 해당하면 더함
+ * - tagMatch: 요청 태그 중 가진 비율(0~1) 당
+ * - relevance: 키워드 관련도 점수 당
+ */
+@Getter
+@Setter
+public class RankingWeights {
+
+    private double distancePerKm;
+    private double rating;
+    private double reviewCount;
+    private double openNow;
+    private double partnership;
+    private double tagMatch;
+    private double relevance;
+
+    /** 거리 ASC */
+    public static RankingWeights nearest() {
+        RankingWeights w = new RankingWeights();
+        w.setDistancePerKm(1.0);
+        return w;
+    }
+
+    /** 평점 DESC */
+    public static RankingWeights topRated() {
+        RankingWeights w = new RankingWeights();
+        w.setRating(1.0);
+        return w;
+    }
+
+    /** 키워드 관련도 DESC */
+    public static RankingWeights mostRelevant() {
+        RankingWeights w = new RankingWeights();
+        w.setRelevance(1.0);
+        return w;
+    }
+}
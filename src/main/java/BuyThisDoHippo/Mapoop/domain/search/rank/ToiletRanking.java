@@ -0,0 +1,25 @@
+package BuyThisDoHippo.Mapoop.domain.search.rank;
+
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletView;
+
+import java.util.List;
+
+/**
+ * 정렬 결과 (검색/지도/긴급찾기 공용)
+ * 정렬 자체는 RankingEngine (프로필 가중치) 또는 공간 인덱스 (거리 ASC)
+ */
+public final class ToiletRanking {
+
+    private ToiletRanking() {}
+
+    public record Ranked(List<ToiletView> toilets, int[] distances) {
+        public int size() {
+            return toilets.size();
+        }
+
+        /** 위치 없이 정렬한 경우 null */
+        public Integer distance(int i) {
+            return distances == null ? null : distances[i];
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package BuyThisDoHippo.Mapoop.domain.search.rank;
+
+import java.util.Arrays;
+
+/**
+ * 정수 키 기준 상위 K개 선택
+ * - (key << 32 | index) 를 long 하나로 묶어 비교 → 키 ASC, 동점은 입력 순서 ASC
+ * - limit이 있으면 크기 K 최대 힙으로 O(n log K), 없으면 long 배열 정렬
+ */
+public final class TopKSelector {
+
+    private TopKSelector() {}
+
+    /**
+     * @param keys  후보별 정렬 키 (작을수록 앞)
+     * @param limit 최대 개수 (0 이하 → 전체)
+     * @return 선택된 후보의 인덱스 (키 ASC 순서)
+     */
+    public static int[] select(int[] keys, int limit) {
+        int n = keys.length;
+        if (n == 0) return new int[0];
+
+        long[] picked;
+        if (limit <= 0 || limit >= n) {
+            picked = new long[n];
+            for (int i = 0; i < n; i++) picked[i] = pack(keys[i], i);
+            Arrays.sort(picked);
+        } else {
+            picked = selectHeap(keys, limit);
+        }
+
+        int[] out = new int[picked.length];
+        for (int i = 0; i < picked.length; i++) out[i] = (int) picked[i];
+        return out;
+    }
+
+    // 최대 힙(루트 = 현재 K개 중 가장 뒤)에 유지하다 마지막에 정렬
+    private static long[] selectHeap(int[] keys, int k) {
+        long[] heap = new long[k];
+        int size = 0;
+        for (int i = 0; i < keys.length; i++) {
+            long p = pack(keys[i], i);
+            if (size < k) {
+                heap[size] = p;
+                siftUp(heap, size++);
+            } else if (p < heap[0]) {
+                heap[0] = p;
+                siftDown(heap, k);
+            }
+        }
+        Arrays.sort(heap);
+        return heap;
+    }
+
+    private static void siftUp(long[] heap, int i) {
+        long v = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] >= v) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = v;
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        long v = heap[0];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && heap[right] > heap[child]) child = right;
+            if (v >= heap[child]) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = v;
+    }
+
+    private static long pack(int key, int index) {
+        return ((long) key << 32) | (index & 0xffffffffL);
+    }
+}
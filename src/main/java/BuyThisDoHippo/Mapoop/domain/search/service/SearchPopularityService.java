@@ -0,0 +1,174 @@
+package BuyThisDoHippo.Mapoop.domain.search.service;
+
+import BuyThisDoHippo.Mapoop.domain.search.dto.TrendingKeyword;
+import BuyThisDoHippo.Mapoop.global.error.ApplicationException;
+import BuyThisDoHippo.Mapoop.global.error.CustomErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색어 인기도 집계
+ * - 요청마다: 로컬 LongAdder(스트라이프 카운터)만 증가 → Redis 쓰기 없음
+ * - FLUSH 주기마다: 모인 횟수를 Redis ZSET에 파이프라인 ZINCRBY 한 번으로 반영
+ *   맵 교체는 쓰기 락, 증가는 읽기 락 → 교체 직전에 옛 맵을 집은 증가분도 빠짐없이 반영
+ * - 시간 감쇠: 증가분에 2^(경과/반감기) 가중치를 곱해 넣고, 읽을 때 현재 가중치로 나눔 (forward decay)
+ *   가중치가 커지지 않도록 하루 단위로 키를 바꾸고, 읽을 때 오늘 + 어제 키를 합산 (반감기 1시간)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchPopularityService {
+
+    private static final String KEY_PREFIX = "search_pop:trending:";
+    private static final double HALF_LIFE_MS = Duration.ofHours(1).toMillis();
+    private static final long EPOCH_MS = Duration.ofDays(1).toMillis();
+    private static final Duration KEY_TTL = Duration.ofDays(3);
+    private static final int MAX_KEYWORD_LENGTH = 50;
+    /** flush 사이에 모을 최대 검색어 종류 수 (이상한 입력으로 메모리 커지는 것 방지) */
+    private static final int MAX_PENDING_KEYWORDS = 10_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void recordSearch(String keyword) {
+        String key = normalize(keyword);
+        if (key == null) return;
+        Lock lock = swapLock.readLock();
+        lock.lock();
+        try {
+            LongAdder adder = pending.get(key);
+            if (adder == null) {
+                if (pending.size() >= MAX_PENDING_KEYWORDS) return;
+                adder = pending.computeIfAbsent(key, k -> new LongAdder());
+            }
+            adder.increment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search-popularity.flush-ms:10000}")
+    public void flush() {
+        Map<String, LongAdder> searches = swap();
+        if (searches.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        long epoch = now / EPOCH_MS;
+        byte[] trendingKey = bytes(key(epoch));
+        double trendingWeight = weight(now, epoch);
+
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                searches.forEach((keyword, count) ->
+                        connection.zSetCommands().zIncrBy(trendingKey, count.sum() * trendingWeight, bytes(keyword)));
+                expire(connection, trendingKey);
+                return null;
+            });
+            log.debug("검색어 집계 반영 - {}종", searches.size());
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도하도록 되돌림
+            log.warn("검색어 집계 반영 실패: {}", e.getMessage());
+            Lock lock = swapLock.readLock();
+            lock.lock();
+            try {
+                searches.forEach((k, v) -> pending.computeIfAbsent(k, x -> new LongAdder()).add(v.sum()));
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 교체 후에는 옛 맵을 쥔 증가 호출이 없음 (읽기 락이 모두 풀린 뒤 교체)
+    private Map<String, LongAdder> swap() {
+        Lock lock = swapLock.writeLock();
+        lock.lock();
+        try {
+            Map<String, LongAdder> drained = pending;
+            if (drained.isEmpty()) return drained;
+            pending = new ConcurrentHashMap<>();
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 인기 검색어 상위 limit개 */
+    public List<TrendingKeyword> trending(int limit) {
+        long now = System.currentTimeMillis();
+        long epoch = now / EPOCH_MS;
+
+        Map<String, Double> scores = new HashMap<>();
+        try {
+            for (long e = epoch - 1; e <= epoch; e++) {
+                Set<ZSetOperations.TypedTuple<String>> top = stringRedisTemplate.opsForZSet()
+                        .reverseRangeWithScores(key(e), 0, limit * 4L - 1);
+                if (top == null) continue;
+                double w = weight(now, e);
+                for (ZSetOperations.TypedTuple<String> t : top) {
+                    if (t.getValue() == null || t.getScore() == null) continue;
+                    scores.merge(t.getValue(), t.getScore() / w, Double::sum);
+                }
+            }
+        } catch (Exception ex) {
+            log.error("인기 검색어 조회 실패: ", ex);
+            throw new ApplicationException(CustomErrorCode.REDIS_OPERATION_FAILED);
+        }
+
+        List<Map.Entry<String, Double>> sorted = scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .toList();
+
+        List<TrendingKeyword> out = new ArrayList<>(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            out.add(TrendingKeyword.builder()
+                    .rank(i + 1)
+                    .keyword(sorted.get(i).getKey())
+                    .score(Math.round(sorted.get(i).getValue() * 100) / 100.0)
+                    .build());
+        }
+        return out;
+    }
+
+    // 해당 일자 키 시작 시점 기준 가중치 2^(경과/반감기)
+    private static double weight(long now, long epoch) {
+        return Math.pow(2.0, (now - epoch * EPOCH_MS) / HALF_LIFE_MS);
+    }
+
+    private static String key(long epoch) {
+        return KEY_PREFIX + epoch;
+    }
+
+    private static void expire(RedisConnection connection, byte[] key) {
+        connection.keyCommands().expire(key, KEY_TTL.toSeconds());
+    }
+
+    private static String normalize(String keyword) {
+        if (keyword == null) return null;
+        String k = keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        if (k.isEmpty() || k.length() > MAX_KEYWORD_LENGTH) return null;
+        return k;
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
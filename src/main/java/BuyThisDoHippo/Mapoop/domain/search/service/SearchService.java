@@ -3,28 +3,37 @@ package BuyThisDoHippo.Mapoop.domain.search.service;
 import BuyThisDoHippo.Mapoop.domain.image.entity.Image;
 import BuyThisDoHippo.Mapoop.domain.image.repository.ImageRepository;
 import BuyThisDoHippo.Mapoop.domain.search.dto.*;
-import BuyThisDoHippo.Mapoop.domain.tag.entity.Tag;
-import BuyThisDoHippo.Mapoop.domain.tag.entity.ToiletTag;
-import BuyThisDoHippo.Mapoop.domain.tag.repository.TagRepository;
-import BuyThisDoHippo.Mapoop.domain.tag.service.TagService;
+import BuyThisDoHippo.Mapoop.domain.search.index.AutocompleteIndex;
+import BuyThisDoHippo.Mapoop.domain.search.index.EmergencyIndex;
+import BuyThisDoHippo.Mapoop.domain.search.index.ToiletSpatialIndex;
+import BuyThisDoHippo.Mapoop.domain.search.rank.RankingEngine;
+import BuyThisDoHippo.Mapoop.domain.search.rank.ToiletRanking;
+import BuyThisDoHippo.Mapoop.domain.tag.service.TagDictionary;
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletCatalog;
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletView;
 import BuyThisDoHippo.Mapoop.domain.toilet.dto.ToiletInfo;
 import BuyThisDoHippo.Mapoop.domain.toilet.entity.Toilet;
-import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletImageRepository;
 import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletRepository;
-import BuyThisDoHippo.Mapoop.global.common.TagConstants;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.WeeklySchedule;
+import BuyThisDoHippo.Mapoop.domain.toilet.service.OpeningClock;
+import BuyThisDoHippo.Mapoop.domain.toilet.service.ToiletCardAssembler;
+import BuyThisDoHippo.Mapoop.global.cache.CacheCodec;
+import BuyThisDoHippo.Mapoop.global.cache.CacheCodecs;
+import BuyThisDoHippo.Mapoop.global.cache.CacheNamespace;
+import BuyThisDoHippo.Mapoop.global.cache.SingleFlight;
+import BuyThisDoHippo.Mapoop.global.cache.TwoLevelCache;
+import BuyThisDoHippo.Mapoop.global.common.GeoUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalTime;
-import java.time.ZoneId;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -33,114 +42,184 @@ import java.util.stream.Collectors;
 public class SearchService {
 
     private final ToiletRepository toiletRepository;
-    private final TagRepository tagRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ToiletImageRepository toiletImageRepository;
+    private final TagDictionary tagDictionary;
+    private final TwoLevelCache twoLevelCache;
+    private final ToiletCatalog toiletCatalog;
+    private final EmergencyIndex emergencyIndex;
+    private final RankingEngine rankingEngine;
+    private final AutocompleteIndex autocompleteIndex;
+    private final SearchPopularityService searchPopularityService;
+    private final SingleFlight singleFlight;
+    private final ToiletCardAssembler toiletCardAssembler;
+    private final OpeningClock openingClock;
+
+    // 자동완성 캐시 값 인코딩 (id, 이름, 평점)
+    private static final CacheCodec<List<SearchSuggestionDto>> SUGGESTION_LIST = CacheCodecs.listOf(CacheCodec.of(
+            (dto, out) -> {
+                CacheCodecs.writeVarLong(out, dto.getToiletId());
+                CacheCodecs.writeNullableUTF(out, dto.getName());
+                CacheCodecs.writeNullableDouble(out, dto.getRating());
+            },
+            in -> new SearchSuggestionDto(CacheCodecs.readVarLong(in),
+                    CacheCodecs.readNullableUTF(in), CacheCodecs.readNullableDouble(in))));
+
+    private static final ToiletRanking.Ranked EMPTY = new ToiletRanking.Ranked(List.of(), null);
+
+    // 카탈로그 적재 전 가까운 목록 조회 반경
+    private static final int FALLBACK_RADIUS_METERS = 5000;
+    // 반경 없는 키워드 검색 시 FULLTEXT 인덱스에서 가져올 최대 후보 수
+    private static final int MAX_KEYWORD_CANDIDATES = 1000;
+    // ngram_token_size 기본값 (2) 보다 짧으면 FULLTEXT로 못 찾음
+    private static final int MIN_FULLTEXT_KEYWORD_LENGTH = 2;
 
-    // Redis 캐시 키 접두사들
-    private static final String AUTOCOMPLETE_PREFIX = "autocomplete:";
-    private static final String SEARCH_COUNT_PREFIX = "search_count:";
 
-    // 캐시 TTL 설정
-    private static final int SHORT_TTL = 300;   // 5분 (일반 검색어)
-    private static final int MEDIUM_TTL = 1800; // 30분 (인기 검색어)
-    private static final int LONG_TTL = 3600;   // 1시간 (매우 인기 검색어)
+    @Transactional(readOnly = true)
+    public SearchResultResponse search(SearchFilter filter) {
+        WeeklySchedule.Moment now = openingClock.now();
+        List<ToiletInfo> rows = toiletCardAssembler.toToiletInfos(rankSearch(filter, now), now);
 
+        return SearchResultResponse.builder()
+                .totalCount(rows.size())
+                .toilets(rows)
+                .build();
+    }
 
+    /**
+     * 검색 결과를 카드 하나씩 (NDJSON 스트리밍 응답용)
+     * 정렬까지만 여기서 끝내고, 카드는 소비하는 쪽이 꺼낼 때 만듦 (카탈로그 뷰만 참조 → DB 없음)
+     */
     @Transactional(readOnly = true)
-    public SearchResultResponse search(SearchFilter filter) {
+    public Stream<ToiletInfo> streamSearch(SearchFilter filter) {
+        WeeklySchedule.Moment now = openingClock.now();
+        return toiletCardAssembler.streamToiletInfos(rankSearch(filter, now), now);
+    }
+
+    private ToiletRanking.Ranked rankSearch(SearchFilter filter, WeeklySchedule.Moment now) {
         final String keyword = (filter.getKeyword() == null || filter.getKeyword().isBlank()) ? null : filter.getKeyword().trim();
         log.debug("검색 시작 - 검색어: {}", keyword);
+        if (keyword != null) searchPopularityService.recordSearch(keyword);
 
         // 태그 id들 얻기
-        List<Long> tagIds = resolveTagIds(filter.getTags());
-        LocalTime now = LocalTime.now(ZoneId.of("Asia/Seoul"));
+        List<Long> tagIds = tagDictionary.resolveIds(filter.getTags());
+
+        // 반경 제한 → 감싸는 사각형을 나머지 필터와 같은 조회에 넣고 (위경도 인덱스), 정확한 거리는 조회 뒤에 자름
+        // 가까운 N개로 먼저 자르지 않음 (평점 정렬 등이 "반경 안 최고"가 아니라 "가까운 N개 중 최고"가 되므로)
+        double[] bbox = filter.hasRadius()
+                ? GeoUtils.boundingBox(filter.getLat(), filter.getLng(), filter.getRadiusMeters())
+                : null;
+        List<Long> candidateIds = null;
+
+        // 키워드 → FULLTEXT(ngram) 인덱스로 후보 id + 관련도 (반경이 있으면 반경 조건도 같은 조회에서)
+        // ngram 토큰보다 짧은 키워드는 인덱스로 못 찾으므로 기존 LIKE 조건 사용
+        String likeKeyword = keyword;
+        Map<Long, Double> relevance = null;
+        if (keyword != null && keyword.length() >= MIN_FULLTEXT_KEYWORD_LENGTH) {
+            relevance = findRelevance(keyword, filter);
+            candidateIds = new ArrayList<>(relevance.keySet());
+            if (candidateIds.isEmpty()) {
+                return EMPTY;
+            }
+            likeKeyword = null;
+        }
 
-        List<Toilet> list = toiletRepository.searchAllFiltered(
-                keyword,
+        List<ToiletView> list = toiletCatalog.viewsOf(toiletRepository.searchAllFiltered(
+                likeKeyword,
+                candidateIds,
+                bbox == null ? null : bbox[0],
+                bbox == null ? null : bbox[1],
+                bbox == null ? null : bbox[2],
+                bbox == null ? null : bbox[3],
                 filter.getMinRating(),
                 filter.getType(),
                 tagIds.isEmpty() ? null : tagIds,
                 tagIds.size(),
                 Boolean.TRUE.equals(filter.getRequireAvailable()),
-                now
-        );
-
-        // 정렬:
-        //      위치 O → 거리 ASC
-        //      위치 X → 평점 DESC
-        //      → 이름 ASC
-        Comparator<Toilet> comparator = filter.hasLocation()
-                ? Comparator.comparingInt(t -> distanceMeters(
-                filter.getLat(), filter.getLng(), t.getLatitude(), t.getLongitude()))
-                : Comparator.<Toilet, Double>comparing(t -> Optional.ofNullable(t.getAvgRating()).orElse(0.0))
-                .reversed()
-                .thenComparing(Toilet::getName, Comparator.nullsLast(String::compareTo));
-        list.sort(comparator);
-
-        List<ToiletInfo> rows = list.stream().map(t -> {
-            boolean available = t.isOpenNow(now);
-
-            // 태그 이름들 세팅 (기존 db + 현재이용가능)
-            List<String> tagNames = t.getToiletTags().stream()
-                    .map(ToiletTag::getTag)
-                    .filter(Objects::nonNull)
-                    .map(Tag::getName)
-                    .distinct()
-                    .collect(Collectors.toCollection(ArrayList::new));
-            if (available)
-                tagNames.add(TagConstants.VIRTUAL_AVAILABLE);
-
-            String mainImageUrl = toiletImageRepository
-                    .findFirstByToilet_IdOrderByCreatedAtAsc(t.getId())
-                    .map(ti->ti.getImage().getImageUrl())
-                    .orElse(null);
-
-            return ToiletInfo.builder()
-                    .toiletId(t.getId())
-                    .name(t.getName())
-                    .type(t.getType().name())
-                    .latitude(t.getLatitude())
-                    .longitude(t.getLongitude())
-                    .address(t.getAddress())
-                    .rating(Optional.ofNullable(t.getAvgRating()).orElse(0.0))
-                    .distance(filter.hasLocation()
-                            ? distanceMeters(filter.getLat(), filter.getLng(), t.getLatitude(), t.getLongitude())
-                            : null)
-                    .tags(tagNames)
-                    .isPartnership(Boolean.TRUE.equals(t.getIsPartnership()))
-                    .mainImageUrl(mainImageUrl)
-                    .build();
-        }).toList();
+                now.hexIndex() + 1,
+                now.hexDigitsWithBit()
+        ));
+        if (filter.hasRadius()) {
+            list = withinRadius(list, filter.getLat(), filter.getLng(), filter.getRadiusMeters());
+        }
 
-        return SearchResultResponse.builder()
-                .totalCount(rows.size())
-                .toilets(rows)
-                .build();
+        // 정렬: search 프로필 가중치 (기본값 = 위치 O → 거리 ASC, 위치 X → 관련도/평점 DESC)
+        //      → 동점은 이름 ASC (쿼리 정렬)
+        return rankingEngine.rank(RankingEngine.SEARCH, list,
+                new RankingEngine.Query(filter.getLat(), filter.getLng(), relevance, tagIds, now), 0);
     }
 
-    private List<Long> resolveTagIds(List<String> names) {
-        if (names == null || names.isEmpty()) return List.of();
-        List<String> normalized = names.stream()
-                .filter(Objects::nonNull)
-                .map(String::trim)
-                .filter(s -> !s.isBlank())
-                .distinct()
+    // id → 관련도 (반경 있으면 반경 안 전부, 없으면 관련도 DESC 상위 MAX_KEYWORD_CANDIDATES개)
+    private Map<Long, Double> findRelevance(String keyword, SearchFilter filter) {
+        String phrase = "\"" + keyword.replace("\"", " ") + "\"";
+        List<ToiletRepository.ToiletRelevance> rows;
+        if (filter.hasRadius()) {
+            double lat = filter.getLat();
+            double lng = filter.getLng();
+            int radius = filter.getRadiusMeters();
+            rows = toiletRepository.findIdsByFullTextWithinRadius(
+                    keyword, phrase, lat, lng, GeoUtils.boundingBoxWkt(lat, lng, radius), radius);
+        } else {
+            rows = toiletRepository.findIdsByFullText(keyword, phrase, MAX_KEYWORD_CANDIDATES);
+        }
+        Map<Long, Double> relevance = new LinkedHashMap<>();
+        for (ToiletRepository.ToiletRelevance r : rows) {
+            relevance.put(r.getId(), r.getScore());
+        }
+        return relevance;
+    }
+
+    // 사각형 모서리 쪽 제외 (반경 안만)
+    private static List<ToiletView> withinRadius(List<ToiletView> list, double lat, double lng, int radiusMeters) {
+        return list.stream()
+                .filter(t -> GeoUtils.distanceMeters(lat, lng, t.latitude(), t.longitude()) <= radiusMeters)
                 .toList();
-        if (normalized.isEmpty()) return List.of();
-        return tagRepository.findIdsByNames(normalized);
     }
 
-    private int distanceMeters(double lat1, double lon1, Double lat2, Double lon2) {
-        if (lat2 == null || lon2 == null) return Integer.MAX_VALUE;
-        double R = 6371000.0;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat/2)*Math.sin(dLat/2) +
-                Math.cos(Math.toRadians(lat1))*Math.cos(Math.toRadians(lat2))*
-                        Math.sin(dLon/2)*Math.sin(dLon/2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
-        return (int)Math.round(R * c);
+    // 카탈로그 한 버전에서 가까운 limit개 (공간 스냅샷 + 뷰, DB 접근 없음)
+    private ToiletRanking.Ranked findNearest(ToiletCatalog.Version version, double lat, double lng, int limit) {
+        return toRanked(version, ToiletSpatialIndex.nearest(version.spatial(), lat, lng, limit));
+    }
+
+    private static ToiletRanking.Ranked toRanked(ToiletCatalog.Version version, List<ToiletSpatialIndex.Neighbor> nearest) {
+
+        List<ToiletView> toilets = new ArrayList<>(nearest.size());
+        int[] distances = new int[nearest.size()];
+        for (ToiletSpatialIndex.Neighbor n : nearest) {
+            ToiletView t = version.get(n.toiletId());
+            if (t == null) continue;
+            distances[toilets.size()] = n.distanceMeters();
+            toilets.add(t);
+        }
+        return new ToiletRanking.Ranked(toilets, Arrays.copyOf(distances, toilets.size()));
+    }
+
+    // 위치 제공 → 거리순 limit개, 위치 없음 → 평점순 limit개
+    // 카탈로그 적재 전(기동 직후)에만 DB 사용
+    private ToiletRanking.Ranked findForList(Double lat, Double lng, int limit) {
+        boolean hasLocation = lat != null && lng != null;
+        if (toiletCatalog.isReady()) {
+            ToiletCatalog.Version version = toiletCatalog.current();
+            if (hasLocation) return findNearest(version, lat, lng, limit);
+            List<ToiletView> byRating = version.byRating();
+            return new ToiletRanking.Ranked(byRating.subList(0, Math.min(limit, byRating.size())), null);
+        }
+
+        if (hasLocation) {
+            List<ToiletRepository.ToiletDistance> rows = toiletRepository.findIdsWithinRadius(
+                    lat, lng, GeoUtils.boundingBoxWkt(lat, lng, FALLBACK_RADIUS_METERS), FALLBACK_RADIUS_METERS, limit);
+            Map<Long, Toilet> byId = toiletRepository.findAllById(
+                            rows.stream().map(ToiletRepository.ToiletDistance::getId).toList()).stream()
+                    .collect(Collectors.toMap(Toilet::getId, t -> t));
+            List<Toilet> toilets = new ArrayList<>(rows.size());
+            int[] distances = new int[rows.size()];
+            for (ToiletRepository.ToiletDistance row : rows) {
+                Toilet t = byId.get(row.getId());
+                if (t == null) continue;
+                distances[toilets.size()] = (int) Math.round(row.getDistance());
+                toilets.add(t);
+            }
+            return new ToiletRanking.Ranked(toiletCatalog.viewsOf(toilets), Arrays.copyOf(distances, toilets.size()));
+        }
+        return new ToiletRanking.Ranked(toiletCatalog.viewsOf(toiletRepository.findTopRated(PageRequest.of(0, limit))), null);
     }
 
     /**
@@ -153,39 +232,35 @@ public class SearchService {
             return Collections.emptyList();
         }
         keyword = keyword.trim();
+
+        // 메모리 접두사 인덱스 (자모/초성 매칭) → 적재 전에만 아래 캐시/DB 경로 사용
+        if (autocompleteIndex.isReady()) {
+            return autocompleteIndex.suggest(keyword, AutocompleteIndex.MAX_SUGGESTIONS);
+        }
+
         String cacheKey = buildCacheKey(keyword);
 
-        // Redis 캐시에서 1차 확인
-        List<SearchSuggestionDto> cacheResults = getCacheSuggestions(cacheKey);
+        // 로컬 L1 → Redis L2 순으로 1차 확인
+        List<SearchSuggestionDto> cacheResults =
+                twoLevelCache.getIfPresent(CacheNamespace.AUTOCOMPLETE, cacheKey, SUGGESTION_LIST);
         if(cacheResults != null) {
-            log.debug("캐시 Hit - Redis에서 가져옵니다.");
+            log.debug("캐시 Hit");
             return cacheResults;
         }
 
-        // DB 2차 확인
-        List<SearchSuggestionDto> suggestions = getDBSuggestions(keyword);
-        log.debug("캐시 Miss - DB에서 가져옵니다.");
-
-        // Redis에 저장
-        int ttl = calculateDynamicTTL(keyword);
-        cacheSuggestions(cacheKey, suggestions, ttl);
-
-        return suggestions;
-    }
-
-    private void cacheSuggestions(String cacheKey, List<SearchSuggestionDto> suggestions, int ttl) {
-        redisTemplate.opsForValue().set(cacheKey, suggestions, ttl, TimeUnit.SECONDS);
-        log.debug("캐시 저장 완료 | key={} | ttl={}초 | size={}", cacheKey, ttl, suggestions.size());
-    }
-
-    private int calculateDynamicTTL(String keyword) {
-        String countKey = SEARCH_COUNT_PREFIX + keyword.toLowerCase();
-        Object countObj = redisTemplate.opsForValue().get(countKey);
-        long searchCount = (countObj != null) ? Long.parseLong(String.valueOf(countObj)) : 0L;
-
-        if (searchCount >= 50) return LONG_TTL;
-        if (searchCount >= 10) return MEDIUM_TTL;
-        return SHORT_TTL;
+        // DB 2차 확인 → 같은 키 동시 미스는 한 번만 조회
+        final String kw = keyword;
+        return singleFlight.execute(CacheNamespace.AUTOCOMPLETE.getPrefix() + cacheKey,
+                () -> twoLevelCache.getIfPresent(CacheNamespace.AUTOCOMPLETE, cacheKey, SUGGESTION_LIST),
+                () -> {
+                    List<SearchSuggestionDto> suggestions = getDBSuggestions(kw);
+                    log.debug("캐시 Miss - DB에서 가져옵니다.");
+
+                    // L1 + Redis에 저장 (이름공간 기본 TTL)
+                    twoLevelCache.put(CacheNamespace.AUTOCOMPLETE, cacheKey, SUGGESTION_LIST, suggestions, null);
+                    log.debug("캐시 저장 완료 | key={} | size={}", cacheKey, suggestions.size());
+                    return suggestions;
+                });
     }
 
     private List<SearchSuggestionDto> getDBSuggestions(String keyword) {
@@ -200,18 +275,18 @@ public class SearchService {
                 .toList();
     }
 
-    @SuppressWarnings("unchecked")
-    private List<SearchSuggestionDto> getCacheSuggestions(String cacheKey) {
-        Object cached = redisTemplate.opsForValue().get(cacheKey);
-        if (cached instanceof List<?> list) {
-            return (List<SearchSuggestionDto>) list;
-        }
-        // List가 아니라면 캐시 미스
-        return null;
+    // 키 = 소문자 검색어 (Redis 키 접두사는 CacheNamespace.AUTOCOMPLETE)
+    private String buildCacheKey(String keyword) {
+        return keyword.toLowerCase();
     }
 
-    private String buildCacheKey(String keyword) {
-        return AUTOCOMPLETE_PREFIX + keyword.toLowerCase();
+    /**
+     * 홈 목록 ETag (카탈로그 내용 해시 + 주간 운영 칸)
+     * 카탈로그에서만 계산 (트랜잭션/DB 연결 없음), 적재 전이면 null
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String homeETag() {
+        return toiletCatalog.versionTag(openingClock.now());
     }
 
     /**
@@ -220,58 +295,10 @@ public class SearchService {
      */
     public SearchResultResponse searchNearby(Double lat, Double lng, Integer limit) {
 
-        LocalTime now = LocalTime.now(ZoneId.of("Asia/Seoul"));
+        WeeklySchedule.Moment now = openingClock.now();
 
-        List<Toilet> list = toiletRepository.findAll();
-        List<Toilet> sliced;
-        if (lat != null && lng != null) {
-            // 위치 제공 → 거리순
-            list.sort(Comparator.comparingInt(
-                    t -> distanceMeters(lat, lng, t.getLatitude(), t.getLongitude())
-            ));
-            sliced = list.stream().limit(limit).toList();
-        } else {
-            // 위치 없음 → 평점순
-            list.sort(
-                    Comparator.<Toilet, Double>comparing(t -> Optional.ofNullable(t.getAvgRating()).orElse(0.0))
-                            .reversed()
-                            .thenComparing(Toilet::getName, Comparator.nullsLast(String::compareTo))
-            );
-            sliced = list.stream().limit(limit).toList();
-        }
-
-        List<ToiletInfo> rows = sliced.stream().map(t -> {
-            boolean available = t.isOpenNow(now);
-
-            List<String> tagNames = t.getToiletTags().stream()
-                    .map(ToiletTag::getTag)
-                    .filter(Objects::nonNull)
-                    .map(Tag::getName)
-                    .distinct()
-                    .collect(Collectors.toCollection(ArrayList::new));
-            if (available) tagNames.add(TagConstants.VIRTUAL_AVAILABLE);
-
-            String mainImageUrl = toiletImageRepository
-                    .findFirstByToilet_IdOrderByCreatedAtAsc(t.getId())
-                    .map(ti->ti.getImage().getImageUrl())
-                    .orElse(null);
-
-            return ToiletInfo.builder()
-                    .toiletId(t.getId())
-                    .name(t.getName())
-                    .type(t.getType().name())
-                    .latitude(t.getLatitude())
-                    .longitude(t.getLongitude())
-                    .address(t.getAddress())
-                    .rating(Optional.ofNullable(t.getAvgRating()).orElse(0.0))
-                    .distance((lat != null && lng != null)
-                            ? distanceMeters(lat, lng, t.getLatitude(), t.getLongitude())
-                            : null) // 위치 없을 땐 null
-                    .tags(tagNames)
-                    .isPartnership(Boolean.TRUE.equals(t.getIsPartnership()))
-                    .mainImageUrl(mainImageUrl)
-                    .build();
-        }).toList();
+        ToiletRanking.Ranked ranked = findForList(lat, lng, limit);
+        List<ToiletInfo> rows = toiletCardAssembler.toToiletInfos(ranked, now);
 
         return SearchResultResponse.builder()
                 .totalCount(rows.size())
@@ -279,63 +306,22 @@ public class SearchService {
                 .build();
     }
 
+    /**
+     * 긴급 찾기: 위치가 있으면 미리 계산한 칸 후보에서 바로 재정렬 (DB/전체 탐색 없음)
+     * 현재 이용 가능 여부는 요청 시각 기준 운영표 비트로 판단
+     */
     public EmergencyResultResponse searchEmergency(Double lat, Double lng, Integer limit) {
 
-        LocalTime now = LocalTime.now(ZoneId.of("Asia/Seoul"));
+        WeeklySchedule.Moment now = openingClock.now();
 
-        List<Toilet> list = toiletRepository.findAll();
-        List<Toilet> sliced;
-        if (lat != null && lng != null) {
-            // 위치 제공 → 거리순
-            list.sort(Comparator.comparingInt(
-                    t -> distanceMeters(lat, lng, t.getLatitude(), t.getLongitude())
-            ));
-            sliced = list.stream().limit(limit).toList();
+        ToiletRanking.Ranked ranked;
+        if (lat != null && lng != null && toiletCatalog.isReady()) {
+            ToiletCatalog.Version version = toiletCatalog.current();
+            ranked = toRanked(version, emergencyIndex.nearest(version.spatial(), lat, lng, limit));
         } else {
-            // 위치 없음 → 평점순
-            list.sort(
-                    Comparator.<Toilet, Double>comparing(t -> Optional.ofNullable(t.getAvgRating()).orElse(0.0))
-                            .reversed()
-                            .thenComparing(Toilet::getName, Comparator.nullsLast(String::compareTo))
-            );
-            sliced = list.stream().limit(limit).toList();
+            ranked = findForList(lat, lng, limit);
         }
-
-        List<EmergencyResponse> rows = sliced.stream().map(t -> {
-            boolean available = t.isOpenNow(now);
-
-            List<String> tagNames = t.getToiletTags().stream()
-                    .map(ToiletTag::getTag)
-                    .filter(Objects::nonNull)
-                    .map(Tag::getName)
-                    .distinct()
-                    .collect(Collectors.toCollection(ArrayList::new));
-            if (available) tagNames.add(TagConstants.VIRTUAL_AVAILABLE);
-
-            String mainImageUrl = toiletImageRepository
-                    .findFirstByToilet_IdOrderByCreatedAtAsc(t.getId())
-                    .map(ti->ti.getImage().getImageUrl())
-                    .orElse(null);
-
-            return EmergencyResponse.builder()
-                    .toiletId(t.getId())
-                    .name(t.getName())
-                    .type(t.getType().name())
-                    .latitude(t.getLatitude())
-                    .longitude(t.getLongitude())
-                    .address(t.getAddress())
-                    .rating(Optional.ofNullable(t.getAvgRating()).orElse(0.0))
-                    .distance((lat != null && lng != null)
-                            ? distanceMeters(lat, lng, t.getLatitude(), t.getLongitude())
-                            : null) // 위치 없을 땐 null
-                    .tags(tagNames)
-                    .isOpenNow(available)
-                    .openTime(t.getOpenTime())
-                    .closeTime(t.getCloseTime())
-                    .isOpen24h(t.getOpen24h())
-                    .mainImageUrl(mainImageUrl)
-                    .build();
-        }).toList();
+        List<EmergencyResponse> rows = toiletCardAssembler.toEmergencyResponses(ranked, now);
 
         return EmergencyResultResponse.builder()
                 .totalCount(rows.size())
@@ -39,12 +39,13 @@ public interface ToiletTagRepository extends JpaRepository<ToiletTag, Long> {
     // 인터페이스 기반 Projection
     interface ToiletIdTagName {
         Long getToiletId();
+        Long getTagId();
         String getTagName();
     }
 
     // 다건 (id-name 연결해서 응답)
     @Query("""
-        select tt.toilet.id as toiletId, tt.tag.name as tagName
+        select tt.toilet.id as toiletId, tt.tag.id as tagId, tt.tag.name as tagName
         from ToiletTag tt
         where tt.toilet.id in :toiletIds
     """)
@@ -0,0 +1,59 @@
+package BuyThisDoHippo.Mapoop.domain.tag.service;
+
+import BuyThisDoHippo.Mapoop.domain.tag.entity.Tag;
+import BuyThisDoHippo.Mapoop.domain.tag.repository.TagRepository;
+import BuyThisDoHippo.Mapoop.global.cache.CacheCodecs;
+import BuyThisDoHippo.Mapoop.global.cache.CacheNamespace;
+import BuyThisDoHippo.Mapoop.global.cache.TwoLevelCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 태그 이름 → ID 사전 (2단계 캐시)
+ * 태그는 거의 바뀌지 않으므로 검색/지도 필터마다 DB를 타지 않도록 통째로 캐싱
+ * 이름은 대소문자 무시 (DB 콜레이션과 동일하게)
+ */
+@Component
+@RequiredArgsConstructor
+public class TagDictionary {
+
+    private static final String IDS_BY_NAME = "ids_by_name";
+
+    private final TagRepository tagRepository;
+    private final TwoLevelCache twoLevelCache;
+
+    public List<Long> resolveIds(List<String> names) {
+        if (names == null || names.isEmpty()) return List.of();
+        Map<String, Long> dictionary = idsByName();
+        return names.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(s -> !s.isBlank())
+                .map(TagDictionary::normalize)
+                .distinct()
+                .map(dictionary::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /** 태그 추가/변경 후 호출 */
+    public void invalidate() {
+        twoLevelCache.evict(CacheNamespace.TAG_DICTIONARY, IDS_BY_NAME);
+    }
+
+    private Map<String, Long> idsByName() {
+        return twoLevelCache.get(CacheNamespace.TAG_DICTIONARY, IDS_BY_NAME, CacheCodecs.stringToLongMap(), () -> {
+            Map<String, Long> map = new HashMap<>();
+            for (Tag tag : tagRepository.findAll()) {
+                map.put(normalize(tag.getName()), tag.getId());
+            }
+            return map;
+        });
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
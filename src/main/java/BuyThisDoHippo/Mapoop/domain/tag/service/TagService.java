@@ -7,10 +7,12 @@ import BuyThisDoHippo.Mapoop.domain.tag.repository.TagRepository;
 import BuyThisDoHippo.Mapoop.domain.tag.repository.ToiletTagRepository;
 import BuyThisDoHippo.Mapoop.domain.toilet.dto.ToiletInfo;
 import BuyThisDoHippo.Mapoop.domain.toilet.entity.Toilet;
+import BuyThisDoHippo.Mapoop.domain.toilet.event.ToiletChangedEvent;
 import BuyThisDoHippo.Mapoop.global.error.ApplicationException;
 import BuyThisDoHippo.Mapoop.global.error.CustomErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +28,7 @@ public class TagService {
 
     private final TagRepository tagRepository;
     private final ToiletTagRepository toiletTagRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 태그 이름만 받아서 화장실-태그 연결
     @Transactional
@@ -81,6 +84,7 @@ public class TagService {
 
         if (!links.isEmpty()) {
             toiletTagRepository.saveAll(links);
+            eventPublisher.publishEvent(new ToiletChangedEvent(toiletId));
         }
         log.debug("태그 연결 완료");
     }
@@ -93,6 +97,7 @@ public class TagService {
         if (names.isEmpty()) {
             // 완전 삭제
             toiletTagRepository.deleteAll(toiletTagRepository.findByToiletId(toiletId));
+            eventPublisher.publishEvent(new ToiletChangedEvent(toiletId));
             return;
         }
 
@@ -120,6 +125,7 @@ public class TagService {
         if (!links.isEmpty()) {
             toiletTagRepository.saveAll(links);
         }
+        eventPublisher.publishEvent(new ToiletChangedEvent(toiletId));
     }
 
     private void appendAvailabilityTag(List<String> tags) {
@@ -0,0 +1,313 @@
+package BuyThisDoHippo.Mapoop.domain.toilet.catalog;
+
+import BuyThisDoHippo.Mapoop.domain.search.index.ToiletSnapshot;
+import BuyThisDoHippo.Mapoop.domain.tag.repository.ToiletTagRepository;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.Toilet;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.WeeklySchedule;
+import BuyThisDoHippo.Mapoop.domain.toilet.event.ToiletChangedEvent;
+import BuyThisDoHippo.Mapoop.domain.toilet.event.ToiletViewChangedEvent;
+import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 화장실 읽기 전용 카탈로그 (copy-on-write)
+ * - 버전이 붙은 불변 스냅샷(id → ToiletView + 공간 스냅샷)을 AtomicReference로 들고 있음
+ * - 읽는 쪽: current() 한 번으로 일관된 버전을 잡고 잠금/DB 없이 사용
+ * - 쓰는 쪽: ToiletChangedEvent 커밋 이후 해당 화장실만 다시 읽어 새 버전으로 교체 (쓰기끼리는 직렬화)
+ *   교체 후 ToiletViewChangedEvent(변경 전/후 뷰) 발행 → 위치 기반 캐시가 영향받는 부분만 무효화
+ * - 다른 노드: 커밋 이후 Redis 채널로 화장실 id를 알리고, 받은 노드도 같은 방식으로 다시 읽음
+ *   메시지 유실 대비로 주기적으로 전체를 다시 읽어 달라진 화장실만 교체
+ * - 목록 ETag 재료: 전체 뷰 내용 해시 (Version.contentHash) → 내용이 같으면 노드/재기동과 무관하게 같은 값
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ToiletCatalog implements MessageListener {
+
+    public static final String CHANGE_CHANNEL = "toilet:changed";
+    private static final String SEPARATOR = "|";
+    private static final int CHUNK_SIZE = 1000;
+
+    private final ToiletRepository toiletRepository;
+    private final ToiletTagRepository toiletTagRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 자기 자신이 보낸 변경 메시지는 이미 반영했으므로 건너뜀
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private static final Comparator<ToiletView> BY_RATING = Comparator
+            .comparingDouble(ToiletView::ratingOrZero).reversed()
+            .thenComparing(ToiletView::name, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ToiletView::id);
+
+    private final AtomicReference<Version> current = new AtomicReference<>(Version.EMPTY);
+
+    /** 단건으로 다시 읽은 화장실 id → 그때 버전 (전체 재적재 중 더 최신인 단건 반영을 지키는 용도) */
+    private final Map<Long, Long> stamps = new ConcurrentHashMap<>();
+
+    /**
+     * 카탈로그 한 버전
+     * byRating: 평점 DESC → 이름 ASC (위치 없는 목록용, 변경 시 이진 탐색으로 한 칸만 옮김)
+     * contentHash: 뷰별 내용 해시의 합 (순서 무관, 변경 시 뺐다 더함)
+     */
+    public record Version(long version, long contentHash, Map<Long, ToiletView> byId,
+                          List<ToiletView> byRating, ToiletSnapshot spatial) {
+
+        static final Version EMPTY = new Version(0, 0, Map.of(), List.of(), ToiletSnapshot.EMPTY);
+
+        public ToiletView get(Long id) {
+            return byId.get(id);
+        }
+
+        public Collection<ToiletView> all() {
+            return byId.values();
+        }
+
+        Version with(ToiletView view) {
+            ToiletView prev = byId.get(view.id());
+            Map<Long, ToiletView> next = new HashMap<>(byId);
+            next.put(view.id(), view);
+            ToiletSnapshot nextSpatial;
+            if (!hasLocation(view)) {
+                nextSpatial = spatial.without(view.id());
+            } else if (prev != null && sameSpatialRow(prev, view)) {
+                nextSpatial = spatial.withRating(view.id(), view.avgRating());
+            } else {
+                nextSpatial = spatial.with(rowOf(view));
+            }
+            long hash = contentHash - (prev == null ? 0 : prev.contentHash()) + view.contentHash();
+            return new Version(version + 1, hash, Collections.unmodifiableMap(next),
+                    replaceSorted(byRating, prev, view), nextSpatial);
+        }
+
+        Version without(Long id) {
+            ToiletView prev = byId.get(id);
+            if (prev == null) return this;
+            Map<Long, ToiletView> next = new HashMap<>(byId);
+            next.remove(id);
+            return new Version(version + 1, contentHash - prev.contentHash(), Collections.unmodifiableMap(next),
+                    replaceSorted(byRating, prev, null), spatial.without(id));
+        }
+    }
+
+    public Version current() {
+        return current.get();
+    }
+
+    public boolean isReady() {
+        return current.get().version() > 0;
+    }
+
+    /**
+     * 목록 응답 ETag 재료: 전체 내용 해시 + 주간 운영 칸 (칸이 바뀌면 이용 가능 여부가 달라질 수 있음)
+     * 적재 전이면 null
+     */
+    public String versionTag(WeeklySchedule.Moment now) {
+        Version v = current.get();
+        if (v.version() == 0) return null;
+        return Long.toHexString(v.contentHash()) + "-" + now.index();
+    }
+
+    /** 기동 시 전체 적재 */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        reloadAll();
+    }
+
+    /** 변경 메시지를 놓친 경우 대비 - 전체를 다시 읽어 달라진 화장실만 교체 */
+    @Scheduled(fixedDelayString = "${app.catalog.full-reload-ms:600000}",
+            initialDelayString = "${app.catalog.full-reload-ms:600000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        if (!isReady()) return;
+        reloadAll();
+    }
+
+    /** 변경 트랜잭션 커밋 이후 해당 화장실만 다시 읽어 교체하고 다른 노드에 알림 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onToiletChanged(ToiletChangedEvent event) {
+        if (event.toiletId() == null) return;
+        reload(event.toiletId());
+        try {
+            stringRedisTemplate.convertAndSend(CHANGE_CHANNEL, nodeId + SEPARATOR + event.toiletId());
+        } catch (Exception e) {
+            log.warn("화장실 변경 전파 실패 - id: {}, {}", event.toiletId(), e.getMessage());
+        }
+    }
+
+    // 다른 노드에서 커밋된 변경
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.indexOf(SEPARATOR);
+        if (sep < 0 || body.substring(0, sep).equals(nodeId)) return;
+        try {
+            reload(Long.parseLong(body.substring(sep + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 화장실 변경 메시지 - {}", body);
+        } catch (Exception e) {
+            // 주기적 전체 재적재에서 다시 맞춰짐
+            log.warn("화장실 변경 반영 실패 - {}: {}", body, e.getMessage());
+        }
+    }
+
+    private synchronized void reload(Long toiletId) {
+        // 적재 전이면 load()가 최신 상태를 읽음
+        if (!isReady()) return;
+
+        Optional<Toilet> toilet = toiletRepository.findById(toiletId);
+        ToiletView before = current.get().get(toiletId);
+        Version next = toilet
+                .map(t -> current.get().with(buildViews(List.of(t)).get(0)))
+                .orElseGet(() -> current.get().without(toiletId));
+        stamps.put(toiletId, next.version());
+        current.set(next);
+
+        ToiletView after = next.get(toiletId);
+        if (before != null || after != null) {
+            eventPublisher.publishEvent(new ToiletViewChangedEvent(before, after));
+        }
+    }
+
+    /**
+     * 전체 적재 (DB 조회는 잠금 밖에서)
+     * 조회 도중 단건 반영된 화장실은 그쪽이 더 최신이므로 유지
+     */
+    private void reloadAll() {
+        long started = current.get().version();
+        List<ToiletView> fresh = buildViews(toiletRepository.findAll());
+
+        List<ToiletViewChangedEvent> changes = new ArrayList<>();
+        Version next;
+        synchronized (this) {
+            Version prev = current.get();
+            Map<Long, ToiletView> byId = new HashMap<>(fresh.size() * 2);
+            for (ToiletView view : fresh) byId.put(view.id(), view);
+            stamps.forEach((id, stamp) -> {
+                if (stamp <= started) return;
+                ToiletView kept = prev.get(id);
+                if (kept != null) byId.put(id, kept); else byId.remove(id);
+            });
+
+            List<ToiletSnapshot.Row> rows = byId.values().stream()
+                    .filter(ToiletCatalog::hasLocation)
+                    .map(ToiletCatalog::rowOf)
+                    .toList();
+            List<ToiletView> byRating = new ArrayList<>(byId.values());
+            byRating.sort(BY_RATING);
+            long hash = 0;
+            for (ToiletView view : byId.values()) hash += view.contentHash();
+            next = new Version(prev.version() + 1, hash,
+                    Collections.unmodifiableMap(byId), Collections.unmodifiableList(byRating), ToiletSnapshot.build(rows));
+
+            if (prev.version() > 0) {
+                for (ToiletView after : byId.values()) {
+                    ToiletView before = prev.get(after.id());
+                    if (before == null || !before.sameAs(after)) changes.add(new ToiletViewChangedEvent(before, after));
+                }
+                for (ToiletView before : prev.all()) {
+                    if (!byId.containsKey(before.id())) changes.add(new ToiletViewChangedEvent(before, null));
+                }
+            }
+            // 이번 적재에 반영된 단건 기록은 더 필요 없음
+            stamps.values().removeIf(stamp -> stamp <= started);
+            current.set(next);
+        }
+        changes.forEach(eventPublisher::publishEvent);
+        log.info("화장실 카탈로그 적재 완료 - 버전: {}, 화장실 수: {}, 변경: {}",
+                next.version(), next.byId().size(), changes.size());
+    }
+
+    /**
+     * DB에서 읽은 엔티티 → 뷰 (카탈로그에 있으면 그대로, 없으면 태그 묶음 조회로 생성)
+     * 순서 유지
+     */
+    public List<ToiletView> viewsOf(List<Toilet> toilets) {
+        Version v = current.get();
+        List<Toilet> missing = new ArrayList<>();
+        for (Toilet t : toilets) {
+            if (v.get(t.getId()) == null) missing.add(t);
+        }
+        Map<Long, ToiletView> built = new HashMap<>();
+        for (ToiletView view : buildViews(missing)) built.put(view.id(), view);
+
+        List<ToiletView> out = new ArrayList<>(toilets.size());
+        for (Toilet t : toilets) {
+            ToiletView view = v.get(t.getId());
+            out.add(view != null ? view : built.get(t.getId()));
+        }
+        return out;
+    }
+
+    /** 카탈로그를 거치지 않고 DB에서 읽은 엔티티로 바로 만든 뷰 (노드 카탈로그가 뒤처져도 읽은 시점 그대로) */
+    public List<ToiletView> freshViewsOf(List<Toilet> toilets) {
+        return buildViews(toilets);
+    }
+
+    private List<ToiletView> buildViews(List<Toilet> toilets) {
+        if (toilets.isEmpty()) return List.of();
+
+        List<Long> ids = toilets.stream().map(Toilet::getId).distinct().toList();
+        Map<Long, List<ToiletView.TagRef>> tagsById = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            for (ToiletTagRepository.ToiletIdTagName row : toiletTagRepository.findTagNamesByToiletIds(chunk)) {
+                if (row.getTagName() == null) continue;
+                tagsById.computeIfAbsent(row.getToiletId(), k -> new ArrayList<>())
+                        .add(new ToiletView.TagRef(row.getTagId(), row.getTagName()));
+            }
+        }
+        return toilets.stream()
+                .map(t -> ToiletView.of(t, tagsById.getOrDefault(t.getId(), List.of())))
+                .toList();
+    }
+
+    private static List<ToiletView> replaceSorted(List<ToiletView> sorted, ToiletView remove, ToiletView add) {
+        List<ToiletView> out = new ArrayList<>(sorted);
+        if (remove != null) {
+            int i = Collections.binarySearch(out, remove, BY_RATING);
+            if (i >= 0) out.remove(i);
+        }
+        if (add != null) {
+            int i = Collections.binarySearch(out, add, BY_RATING);
+            out.add(i >= 0 ? i : -i - 1, add);
+        }
+        return Collections.unmodifiableList(out);
+    }
+
+    private static boolean hasLocation(ToiletView v) {
+        return v.latitude() != null && v.longitude() != null;
+    }
+
+    private static boolean sameSpatialRow(ToiletView a, ToiletView b) {
+        return Objects.equals(a.latitude(), b.latitude())
+                && Objects.equals(a.longitude(), b.longitude())
+                && a.type() == b.type()
+                && Objects.equals(a.open24h(), b.open24h())
+                && a.isPartnership() == b.isPartnership();
+    }
+
+    private static ToiletSnapshot.Row rowOf(ToiletView v) {
+        return new ToiletSnapshot.Row(v.id(), v.latitude(), v.longitude(), v.avgRating(), v.type(),
+                Boolean.TRUE.equals(v.open24h()), v.isPartnership());
+    }
+}
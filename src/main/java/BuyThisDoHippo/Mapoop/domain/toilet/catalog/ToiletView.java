@@ -0,0 +1,114 @@
+package BuyThisDoHippo.Mapoop.domain.toilet.catalog;
+
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.Toilet;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.ToiletType;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.WeeklySchedule;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 목록/지도 응답에 필요한 화장실 값만 담은 불변 객체 (영속성 컨텍스트와 무관)
+ * - openBits: 주간 운영표 비트 (현재 이용 가능 판단 시 문자열 파싱 없음)
+ * - tagIds: 정렬된 태그 id (태그 AND 필터용)
+ */
+public record ToiletView(
+        Long id,
+        String name,
+        ToiletType type,
+        String address,
+        Integer floor,
+        Double latitude,
+        Double longitude,
+        Double avgRating,
+        Integer totalReviews,
+        boolean isPartnership,
+        String mainImageUrl,
+        Boolean open24h,
+        LocalTime openTime,
+        LocalTime closeTime,
+        String weeklySchedule,
+        long[] openBits,
+        List<String> tags,
+        long[] tagIds
+) {
+
+    public record TagRef(Long id, String name) {}
+
+    public static ToiletView of(Toilet t, List<TagRef> tags) {
+        String schedule = t.scheduleOrDaily();
+        return new ToiletView(
+                t.getId(), t.getName(), t.getType(), t.getAddress(), t.getFloor(),
+                t.getLatitude(), t.getLongitude(), t.getAvgRating(), t.getTotalReviews(),
+                Boolean.TRUE.equals(t.getIsPartnership()), t.getMainImageUrl(),
+                t.getOpen24h(), t.getOpenTime(), t.getCloseTime(), schedule,
+                WeeklySchedule.toBits(schedule),
+                tags.stream().map(TagRef::name).distinct().toList(),
+                tags.stream().mapToLong(TagRef::id).distinct().sorted().toArray());
+    }
+
+    /** 내용이 같은지 (배열 필드까지 값으로 비교, 레코드 equals는 배열을 참조로 비교함) */
+    public boolean sameAs(ToiletView o) {
+        return Objects.equals(id, o.id) && Objects.equals(name, o.name) && type == o.type
+                && Objects.equals(address, o.address) && Objects.equals(floor, o.floor)
+                && Objects.equals(latitude, o.latitude) && Objects.equals(longitude, o.longitude)
+                && Objects.equals(avgRating, o.avgRating) && Objects.equals(totalReviews, o.totalReviews)
+                && isPartnership == o.isPartnership && Objects.equals(mainImageUrl, o.mainImageUrl)
+                && Objects.equals(open24h, o.open24h) && Objects.equals(openTime, o.openTime)
+                && Objects.equals(closeTime, o.closeTime) && Objects.equals(weeklySchedule, o.weeklySchedule)
+                && Arrays.equals(openBits, o.openBits) && Objects.equals(tags, o.tags)
+                && Arrays.equals(tagIds, o.tagIds);
+    }
+
+    /**
+     * 내용 해시 (64비트, JVM/노드와 무관하게 같은 내용이면 같은 값 → ETag 재료)
+     * enum은 identity hashCode라 이름으로 계산
+     */
+    public long contentHash() {
+        long h = 17;
+        h = mix(h, Objects.hashCode(id));
+        h = mix(h, Objects.hashCode(name));
+        h = mix(h, type == null ? 0 : type.name().hashCode());
+        h = mix(h, Objects.hashCode(address));
+        h = mix(h, Objects.hashCode(floor));
+        h = mix(h, Objects.hashCode(latitude));
+        h = mix(h, Objects.hashCode(longitude));
+        h = mix(h, Objects.hashCode(avgRating));
+        h = mix(h, Objects.hashCode(totalReviews));
+        h = mix(h, isPartnership ? 1 : 0);
+        h = mix(h, Objects.hashCode(mainImageUrl));
+        h = mix(h, Objects.hashCode(open24h));
+        h = mix(h, Objects.hashCode(openTime));
+        h = mix(h, Objects.hashCode(closeTime));
+        h = mix(h, Objects.hashCode(weeklySchedule));
+        h = mix(h, Objects.hashCode(tags));
+        h = mix(h, Arrays.hashCode(tagIds));
+        // splitmix64 마무리 → 합산해도 비트가 고르게 섞임
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+
+    private static long mix(long h, int v) {
+        return (h ^ v) * 0x100000001b3L;
+    }
+
+    public boolean isOpenNow(WeeklySchedule.Moment now) {
+        return WeeklySchedule.test(openBits, now);
+    }
+
+    public double ratingOrZero() {
+        return avgRating == null ? 0.0 : avgRating;
+    }
+
+    /** 주어진 태그를 모두 가지고 있는지 */
+    public boolean hasAllTags(Collection<Long> required) {
+        for (Long tagId : required) {
+            if (tagId == null || Arrays.binarySearch(tagIds, tagId) < 0) return false;
+        }
+        return true;
+    }
+}
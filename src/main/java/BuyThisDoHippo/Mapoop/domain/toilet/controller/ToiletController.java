@@ -5,12 +5,15 @@ import BuyThisDoHippo.Mapoop.domain.image.dto.ImageSavedDto;
 import BuyThisDoHippo.Mapoop.domain.image.dto.UploadImageResponse;
 import BuyThisDoHippo.Mapoop.domain.image.service.ImageCommandService;
 import BuyThisDoHippo.Mapoop.domain.image.service.S3ImageService;
+import BuyThisDoHippo.Mapoop.domain.toilet.dto.ToiletChangesResponse;
 import BuyThisDoHippo.Mapoop.domain.toilet.dto.ToiletDetailResponse;
 import BuyThisDoHippo.Mapoop.domain.toilet.dto.ToiletRegisterRequest;
 import BuyThisDoHippo.Mapoop.domain.toilet.dto.ToiletRegisterResponse;
 import BuyThisDoHippo.Mapoop.domain.toilet.dto.ToiletUpdateRequest;
+import BuyThisDoHippo.Mapoop.domain.toilet.service.ToiletChangeService;
 import BuyThisDoHippo.Mapoop.domain.toilet.service.ToiletService;
 import BuyThisDoHippo.Mapoop.global.common.CommonResponse;
+import BuyThisDoHippo.Mapoop.global.common.ConditionalGet;
 import BuyThisDoHippo.Mapoop.global.error.ApplicationException;
 import BuyThisDoHippo.Mapoop.global.error.CustomErrorCode;
 import jakarta.validation.Valid;
@@ -19,6 +22,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalTime;
@@ -32,6 +36,7 @@ public class ToiletController {
     private final ToiletService toiletService;
     private final S3ImageService s3ImageService;    // S3 업로드 & 퍼블릭 URL 생성
     private final ImageCommandService imageCommandService;  // DB 저장
+    private final ToiletChangeService toiletChangeService;
 
     @PostMapping("")
     public CommonResponse<ToiletRegisterResponse> registerToilet(@Valid @RequestBody ToiletRegisterRequest request) {
@@ -54,8 +59,28 @@ public class ToiletController {
         return CommonResponse.onSuccess(response, "화장실 등록 성공");
     }
 
+    /**
+     * 클라이언트 복제본 동기화: since 버전 이후 변경 (버전 오름차순, 화장실마다 마지막 변경만)
+     * 응답 version을 다음 since로, hasMore면 바로 이어서 요청 (since=0 → 전체 목록)
+     */
+    @GetMapping("/changes")
+    public CommonResponse<ToiletChangesResponse> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "500") int limit
+    ) {
+        if (since < 0 || limit <= 0) {
+            throw new ApplicationException(CustomErrorCode.INVALID_REQUEST_DTO);
+        }
+        ToiletChangesResponse response = toiletChangeService.getChanges(since, Math.min(limit, ToiletChangeService.MAX_LIMIT));
+        return CommonResponse.onSuccess(response, "화장실 변경 내역 조회 성공");
+    }
+
     @GetMapping("/{toiletId}")
-    public CommonResponse<ToiletDetailResponse> getDetailToilet(@PathVariable Long toiletId) {
+    public CommonResponse<ToiletDetailResponse> getDetailToilet(@PathVariable Long toiletId, ServletWebRequest request) {
+        // 데이터 버전이 같으면 304 (DB 조회 없음)
+        if (ConditionalGet.notModified(request, toiletService.detailETag(toiletId))) {
+            return null;
+        }
         ToiletDetailResponse response = toiletService.getToiletDetail(toiletId);
         return CommonResponse.onSuccess(response, "화장실 상세 조회 성공");
     }
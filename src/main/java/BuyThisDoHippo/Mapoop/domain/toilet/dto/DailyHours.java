@@ -0,0 +1,38 @@
+package BuyThisDoHippo.Mapoop.domain.toilet.dto;
+
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.ScheduleDay;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+/* 요일(공휴일)별 운영시간, 목록에 없는 요일은 기본 운영시간(isOpen24h/openTime/closeTime) 적용 */
+public class DailyHours {
+    @NotNull(message = "요일은 필수입니다 (MON~SUN, HOLIDAY)")
+    private ScheduleDay day;
+
+    @Builder.Default
+    private Boolean isOpen24h = Boolean.FALSE;
+    @Builder.Default
+    private Boolean isClosed = Boolean.FALSE;   // 휴무
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm:ss")
+    private LocalTime openTime;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm:ss")
+    private LocalTime closeTime;
+
+    @AssertTrue(message = "24시간/휴무가 아닌 경우 운영시간은 필수입니다")
+    public boolean isOperatingTimeValid() {
+        if (Boolean.TRUE.equals(isOpen24h) || Boolean.TRUE.equals(isClosed)) return true;
+        return openTime != null && closeTime != null;
+    }
+}
@@ -0,0 +1,40 @@
+package BuyThisDoHippo.Mapoop.domain.toilet.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ToiletChangesResponse {
+    private Long version;        // 다음 요청의 since
+    private boolean hasMore;     // true면 바로 이어서 요청
+    private List<Change> changes; // 버전 오름차순, 화장실마다 마지막 변경만
+
+    // 변경 한 건 (삭제면 version, toiletId, deleted만)
+    @Getter @Builder
+    @AllArgsConstructor @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Change {
+        private Long version;
+        private Long toiletId;
+        private Boolean deleted;
+
+        private String name;
+        private String type;
+        private Double latitude;
+        private Double longitude;
+        private String address;
+        private Integer floor;
+        private Double rating;
+        private Integer totalReviews;
+        private Boolean isPartnership;
+        private Boolean isOpen24h;
+        private String weeklySchedule;
+        private String mainImageUrl;
+        private List<String> tags;
+    }
+}
@@ -56,5 +56,6 @@ public class ToiletDetailResponse {
         private LocalTime closeTime;
         private boolean isOpen24h;
         private boolean isOpenNow; // 서버가 계산해서 내려줌
+        private String weeklySchedule; // 요일/공휴일별 15분 단위 운영 비트맵 (16진수 192자)
     }
 }
@@ -1,6 +1,7 @@
 package BuyThisDoHippo.Mapoop.domain.toilet.dto;
 
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -41,6 +42,11 @@ public class ToiletRegisterRequest {
         return true;
     }
 
+    /** 요일/공휴일별 운영시간 (선택) */
+    @Valid
+    @Builder.Default
+    private List<DailyHours> weeklyHours = new ArrayList<>();
+
     private String description;
     private String particulars;
 
@@ -1,6 +1,7 @@
 package BuyThisDoHippo.Mapoop.domain.toilet.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -35,6 +36,11 @@ public class ToiletUpdateRequest {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm:ss")
     private LocalTime closeTime;
 
+    /** 요일/공휴일별 운영시간 (선택) */
+    @Valid
+    @Builder.Default
+    private List<DailyHours> weeklyHours = new ArrayList<>();
+
     private String description;
     private String particulars;
 
@@ -0,0 +1,30 @@
+package BuyThisDoHippo.Mapoop.domain.toilet.entity;
+
+import java.time.DayOfWeek;
+
+/**
+ * 주간 운영표의 행 (월~일 + 공휴일), ordinal = WeeklySchedule 행 번호
+ * HOLIDAY 행은 app.holidays 날짜에 요일 행 대신 쓰이는 그날의 운영시간 (자정 넘김 처리는 WeeklySchedule 참고)
+ */
+public enum ScheduleDay {
+    MON, TUE, WED, THU, FRI, SAT, SUN, HOLIDAY;
+
+    public static ScheduleDay of(DayOfWeek dayOfWeek, boolean holiday) {
+        return holiday ? HOLIDAY : values()[dayOfWeek.getValue() - 1];
+    }
+
+    /** 다음 요일 (공휴일은 다음 요일을 알 수 없음) */
+    public ScheduleDay next() {
+        return weekday(1);
+    }
+
+    /** 전날 요일 (공휴일은 전날 요일을 알 수 없음) */
+    public ScheduleDay previous() {
+        return weekday(6);
+    }
+
+    private ScheduleDay weekday(int offset) {
+        if (this == HOLIDAY) throw new IllegalStateException("공휴일 행은 요일 순서가 없음");
+        return values()[(ordinal() + offset) % 7];
+    }
+}
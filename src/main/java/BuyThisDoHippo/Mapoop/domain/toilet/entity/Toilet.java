@@ -6,6 +6,7 @@ import BuyThisDoHippo.Mapoop.domain.user.entity.User;
 import BuyThisDoHippo.Mapoop.global.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
@@ -14,6 +15,7 @@ import java.util.List;
 @Setter
 @Getter
 @Entity
+@DynamicUpdate   // 평점 집계는 SQL 증감으로만 갱신 → 다른 수정이 이전 값으로 덮어쓰지 않도록 바뀐 컬럼만 UPDATE
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
@@ -42,7 +44,11 @@ public class Toilet extends BaseEntity {
     private String description; // 장소(가게) 설명
     private String particulars; // 화장실 특이사항
 
-    /** 위치 관련 */
+    /**
+     * 위치 관련
+     * DB에는 위경도로부터 생성되는 location(POINT SRID 4326, SPATIAL INDEX) 컬럼이 따로 있음
+     * → ToiletSchemaInitializer 참고, 엔티티에는 매핑하지 않음
+     */
     @Column(nullable = false)
     private Double latitude;    // 위도
     @Column(nullable = false)
@@ -52,10 +58,37 @@ public class Toilet extends BaseEntity {
     @Column(nullable = false)
     private Integer floor;
 
-    /** 평점 관련 */
+    /**
+     * 평점 관련
+     * 합계/개수/별점별 개수는 리뷰 작성/수정/삭제 시 ToiletRepository.applyRatingDelta로 증감
+     * (평균, 리뷰 수도 같은 문장에서 갱신), 어긋나면 ReviewService.reconcileRatings가 보정
+     */
     @Column(name = "avg_rating")
     private Double avgRating;
     private Integer totalReviews;
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum;
+    @Column(name = "rating_count", nullable = false)
+    private Integer ratingCount;
+    @Column(name = "rating_1", nullable = false)
+    private Integer rating1;
+    @Column(name = "rating_2", nullable = false)
+    private Integer rating2;
+    @Column(name = "rating_3", nullable = false)
+    private Integer rating3;
+    @Column(name = "rating_4", nullable = false)
+    private Integer rating4;
+    @Column(name = "rating_5", nullable = false)
+    private Integer rating5;
+
+    /**
+     * 대표 이미지 (가장 먼저 등록된 화장실 이미지)
+     * 목록 조회 시 이미지 조인 없이 쓰도록 비정규화 → ImageCommandService에서 연결/삭제 시 갱신
+     */
+    @Column(name = "main_image_url", length = 500)
+    private String mainImageUrl;
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
 
     /** 운영 정보 */
     @Column(name = "open_24h", nullable = false)
@@ -64,6 +97,9 @@ public class Toilet extends BaseEntity {
     private LocalTime openTime;
     @Column(name = "close_time")
     private LocalTime closeTime;
+    /** 요일/공휴일별 15분 단위 운영표 비트맵 (WeeklySchedule 참고) */
+    @Column(name = "weekly_schedule", length = WeeklySchedule.LENGTH)
+    private String weeklySchedule;
 
     /** 등록한 유저 (N:1) */
     @ManyToOne(fetch = FetchType.LAZY)
@@ -75,36 +111,19 @@ public class Toilet extends BaseEntity {
     @Builder.Default
     private List<ToiletTag> toiletTags = new ArrayList<>();
 
-    public boolean isOpenNow(LocalTime now) {
-        if (open24h) return true;
-        if (openTime == null || closeTime == null) return false;
-        if (openTime.equals(closeTime)) return false;
-        if (openTime.isBefore(closeTime)) {
-            return !now.isBefore(openTime) && now.isBefore(closeTime);
-        } else {
-            // 야간 영업
-            return !now.isBefore(openTime) || now.isBefore(closeTime);
-        }
+    /** 현재 칸의 비트 확인 (운영표 없는 행은 기본 운영시간으로 계산) */
+    public boolean isOpenNow(WeeklySchedule.Moment now) {
+        return WeeklySchedule.isOpen(scheduleOrDaily(), now);
     }
 
-    /**
-     * 평균 별점 업데이트
-     * 리뷰 작성/수정/삭제 시 호출
-     */
-    public void updateAverageRating(Double newAvgRating) {
-        this.avgRating = newAvgRating;
-    }
-
-    /** 리뷰 수 +1 */
-    public void increaseTotalReviews() {
-        if (this.totalReviews == null) this.totalReviews = 0;
-        this.totalReviews += 1;
+    public String scheduleOrDaily() {
+        return weeklySchedule != null ? weeklySchedule : WeeklySchedule.daily(open24h, openTime, closeTime);
     }
 
-    /** 리뷰 수 -1 (바닥 0) */
-    public void decreaseTotalReviews() {
-        if (this.totalReviews == null) this.totalReviews = 0;
-        if (this.totalReviews > 0) this.totalReviews -= 1;
+    /** 대표 이미지 갱신 (이미지 없으면 둘 다 null) */
+    public void updateMainImage(String mainImageUrl, String thumbnailUrl) {
+        this.mainImageUrl = mainImageUrl;
+        this.thumbnailUrl = thumbnailUrl;
     }
 
     /** 신규 행 기본값 보호 */
@@ -112,5 +131,13 @@ public class Toilet extends BaseEntity {
     public void prePersist() {
         if (this.totalReviews == null) this.totalReviews = 0;
         if (this.avgRating == null) this.avgRating = 0.0;
+        if (this.ratingSum == null) this.ratingSum = 0L;
+        if (this.ratingCount == null) this.ratingCount = 0;
+        if (this.rating1 == null) this.rating1 = 0;
+        if (this.rating2 == null) this.rating2 = 0;
+        if (this.rating3 == null) this.rating3 = 0;
+        if (this.rating4 == null) this.rating4 = 0;
+        if (this.rating5 == null) this.rating5 = 0;
+        if (this.weeklySchedule == null) this.weeklySchedule = WeeklySchedule.daily(open24h, openTime, closeTime);
     }
 }
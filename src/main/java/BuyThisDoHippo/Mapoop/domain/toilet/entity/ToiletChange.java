@@ -0,0 +1,32 @@
+package BuyThisDoHippo.Mapoop.domain.toilet.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 화장실 변경 로그 (클라이언트 카탈로그 복제용 delta 동기화)
+ * - id가 곧 변경 버전 (단조 증가)
+ * - 내용은 들고 있지 않음 → 조회 시 현재 상태로 응답, 화장실이 없으면 삭제 표시
+ * - 화장실마다 마지막 행만 의미 있음 → 이전 행은 주기적으로 정리
+ * - created_at은 DB 시각 (노드마다 시계가 달라도 자리 잡음 판단이 한 기준)
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "toilet_change", indexes = @Index(name = "idx_toilet_change_toilet", columnList = "toilet_id"))
+public class ToiletChange {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "toilet_id", nullable = false)
+    private Long toiletId;
+
+    @Column(nullable = false, insertable = false, updatable = false,
+            columnDefinition = "DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,217 @@
+package BuyThisDoHippo.Mapoop.domain.toilet.entity;
+
+import java.time.LocalTime;
+import java.util.Map;
+
+/**
+ * 주간 운영표 비트맵 (8행 × 96칸, 15분 단위)
+ * - 행: ScheduleDay (월~일 + 공휴일)
+ * - 칸 하나 = 비트 하나, 4칸씩 16진수 한 글자 → 행당 24글자, 총 192글자 문자열로 저장
+ * - "지금 열려있나" = 해당 글자 하나의 비트 확인 → SQL(substring/locate)과 메모리 모두 상수 시간
+ *
+ * 자정을 넘는 운영시간
+ * - 요일 행: 넘어간 부분은 다음 요일 행의 앞부분에 기록 (평일끼리는 글자 하나로 판정)
+ * - 공휴일 행: 다음 날이 무슨 요일인지 모르므로 넘어간 부분을 자기 행 앞부분에 감아서 기록
+ *   → 이 앞부분은 "공휴일 다음 날 새벽"을 뜻하고, 공휴일 자신의 새벽은 전날 요일 행에서 넘어온 부분으로 판정
+ * - 공휴일 당일/다음 날은 Moment에 실제 요일과 전날 공휴일 여부를 담아 test()에서 두 행을 조합
+ *   (SQL 경로는 글자 하나만 보므로 이 두 날은 근사치, 카탈로그 적재 전 대체 경로에서만 쓰임)
+ */
+public final class WeeklySchedule {
+
+    public static final int SLOTS_PER_DAY = 96;
+    /** ScheduleDay 행 수 (컬럼 길이 애노테이션에 쓰이므로 상수, 아래 static 블록에서 확인) */
+    public static final int ROWS = 8;
+    public static final int HEX_PER_ROW = SLOTS_PER_DAY / 4;
+    public static final int LENGTH = ROWS * HEX_PER_ROW;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final long FULL_HIGH = (1L << (SLOTS_PER_DAY - 64)) - 1;
+
+    static {
+        if (ScheduleDay.values().length != ROWS) {
+            throw new IllegalStateException("WeeklySchedule.ROWS != ScheduleDay 수");
+        }
+    }
+
+    private WeeklySchedule() {}
+
+    /**
+     * 조회 시점 (행, 칸)
+     * @param weekday      실제 요일 행 (공휴일이어도 MON~SUN)
+     * @param afterHoliday 전날이 공휴일이었는지
+     */
+    public record Moment(ScheduleDay day, int slot, ScheduleDay weekday, boolean afterHoliday) {
+
+        public Moment(ScheduleDay day, int slot) {
+            this(day, slot, day, false);
+        }
+
+        /** 공휴일 당일/다음 날이라 두 행을 조합해야 하는지 (실제 요일을 모르면 행 하나만 봄) */
+        boolean nearHoliday() {
+            return weekday != ScheduleDay.HOLIDAY && (day == ScheduleDay.HOLIDAY || afterHoliday);
+        }
+
+        /** 결과가 같은 시점끼리 같은 번호 (요일 행 × 96 + 15분 칸, 공휴일 전후는 요일·전날 여부로 구분) */
+        public int index() {
+            int base = day.ordinal() * SLOTS_PER_DAY + slot;
+            if (!nearHoliday()) return base;
+            int context = (weekday.ordinal() + 1) * 2 + (afterHoliday ? 1 : 0);
+            return context * ROWS * SLOTS_PER_DAY + base;
+        }
+
+        /** 문자열에서 확인할 글자 위치 (0부터) */
+        public int hexIndex() {
+            return day.ordinal() * HEX_PER_ROW + slot / 4;
+        }
+
+        /** 해당 비트가 켜진 16진수 글자들 → SQL locate 대상 */
+        public String hexDigitsWithBit() {
+            int bit = 1 << (slot % 4);
+            StringBuilder sb = new StringBuilder(8);
+            for (int v = 0; v < 16; v++) {
+                if ((v & bit) != 0) sb.append(HEX[v]);
+            }
+            return sb.toString();
+        }
+    }
+
+    /** 하루 운영시간 (null → 휴무) */
+    public record Hours(boolean open24h, LocalTime openTime, LocalTime closeTime) {
+        public static final Hours CLOSED = new Hours(false, null, null);
+    }
+
+    public static int slotOf(LocalTime time) {
+        return time.getHour() * 4 + time.getMinute() / 15;
+    }
+
+    public static boolean isOpen(String schedule, Moment moment) {
+        if (schedule == null || schedule.length() != LENGTH) return false;
+        if (moment.nearHoliday()) return test(toBits(schedule), moment);
+        int v = Character.digit(schedule.charAt(moment.hexIndex()), 16);
+        // 깨진 글자(-1)는 휴무로 봄
+        return v >= 0 && (v & (1 << (moment.slot() % 4))) != 0;
+    }
+
+    /** 매일 같은 운영시간 (기존 open24h/openTime/closeTime) */
+    public static String daily(Boolean open24h, LocalTime openTime, LocalTime closeTime) {
+        return build(Map.of(), new Hours(Boolean.TRUE.equals(open24h), openTime, closeTime));
+    }
+
+    /**
+     * 요일별 운영시간 → 비트맵 문자열
+     * @param byDay       요일(공휴일)별 운영시간
+     * @param defaultHours byDay에 없는 요일에 적용
+     */
+    public static String build(Map<ScheduleDay, Hours> byDay, Hours defaultHours) {
+        long[] bits = new long[ROWS * 2];   // 행당 96비트 → long 2개 (하위 64 + 상위 32)
+        for (ScheduleDay day : ScheduleDay.values()) {
+            Hours h = byDay.getOrDefault(day, defaultHours);
+            if (h == null) continue;
+            if (h.open24h()) {
+                fill(bits, day, 0, SLOTS_PER_DAY);
+                continue;
+            }
+            if (h.openTime() == null || h.closeTime() == null || h.openTime().equals(h.closeTime())) continue;
+
+            int open = slotOf(h.openTime());
+            int close = ceilSlot(h.closeTime());
+            if (h.openTime().isBefore(h.closeTime())) {
+                fill(bits, day, open, close);
+            } else {
+                // 자정 넘김 → 다음 요일 행 앞부분까지 (공휴일은 자기 행 앞부분, 클래스 주석 참고)
+                fill(bits, day, open, SLOTS_PER_DAY);
+                fill(bits, day == ScheduleDay.HOLIDAY ? day : day.next(), 0, close);
+            }
+        }
+        return encode(bits);
+    }
+
+    /** 비트맵 문자열 → 행별 long 2개 (집계용) */
+    public static long[] toBits(String schedule) {
+        long[] bits = new long[ROWS * 2];
+        if (schedule == null || schedule.length() != LENGTH) return bits;
+        for (int i = 0; i < LENGTH; i++) {
+            int v = Character.digit(schedule.charAt(i), 16);
+            if (v < 0) continue;   // 깨진 글자는 휴무로 봄
+            int row = i / HEX_PER_ROW;
+            int slot = (i % HEX_PER_ROW) * 4;
+            for (int b = 0; b < 4; b++) {
+                if ((v & (1 << b)) != 0) set(bits, row, slot + b);
+            }
+        }
+        return bits;
+    }
+
+    public static boolean test(long[] bits, Moment moment) {
+        int slot = moment.slot();
+        if (!moment.nearHoliday()) return bit(bits, moment.day().ordinal(), slot);
+
+        int holiday = ScheduleDay.HOLIDAY.ordinal();
+        int weekday = moment.weekday().ordinal();
+        int previous = moment.weekday().previous().ordinal();
+        // 공휴일 행이 감겨 있으면 앞부분은 공휴일 다음 날 새벽
+        boolean holidaySpill = wraps(bits, holiday) && slot < leadingRun(bits, holiday);
+        // 요일 행 앞부분 중 전날 요일에서 넘어온 부분
+        boolean weekdaySpill = spillsOver(bits, previous) && slot < leadingRun(bits, weekday);
+
+        if (moment.day() == ScheduleDay.HOLIDAY) {
+            boolean own = bit(bits, holiday, slot) && !holidaySpill;
+            boolean fromYesterday = moment.afterHoliday() ? holidaySpill : weekdaySpill;
+            return own || fromYesterday;
+        }
+        // 공휴일 다음 날: 전날 요일 행이 아니라 공휴일 행에서 넘어온 부분을 씀
+        boolean own = bit(bits, weekday, slot) && !weekdaySpill;
+        return own || holidaySpill;
+    }
+
+    private static boolean bit(long[] bits, int row, int slot) {
+        return (bits[row * 2 + (slot >= 64 ? 1 : 0)] >>> (slot & 63) & 1L) != 0;
+    }
+
+    private static boolean full(long[] bits, int row) {
+        return bits[row * 2] == -1L && bits[row * 2 + 1] == FULL_HIGH;
+    }
+
+    /** 마지막 칸까지 열려 있고 종일은 아님 → 다음 날로 넘어가는 운영시간 */
+    private static boolean spillsOver(long[] bits, int row) {
+        return bit(bits, row, SLOTS_PER_DAY - 1) && !full(bits, row);
+    }
+
+    /** 첫 칸과 마지막 칸이 이어진 (감겨 있는) 행 */
+    private static boolean wraps(long[] bits, int row) {
+        return bit(bits, row, 0) && spillsOver(bits, row);
+    }
+
+    /** 0번 칸부터 연속으로 열린 칸 수 */
+    private static int leadingRun(long[] bits, int row) {
+        int low = Long.numberOfTrailingZeros(~bits[row * 2]);
+        if (low < 64) return low;
+        return Math.min(SLOTS_PER_DAY, 64 + Long.numberOfTrailingZeros(~bits[row * 2 + 1]));
+    }
+
+    // 닫는 시각이 15분 단위가 아니면 그 칸까지 연 것으로 봄
+    private static int ceilSlot(LocalTime time) {
+        int minutes = time.getHour() * 60 + time.getMinute() + (time.getSecond() > 0 ? 1 : 0);
+        return Math.min(SLOTS_PER_DAY, (minutes + 14) / 15);
+    }
+
+    private static void fill(long[] bits, ScheduleDay day, int from, int to) {
+        for (int s = from; s < to; s++) set(bits, day.ordinal(), s);
+    }
+
+    private static void set(long[] bits, int row, int slot) {
+        bits[row * 2 + (slot >= 64 ? 1 : 0)] |= 1L << (slot & 63);
+    }
+
+    private static String encode(long[] bits) {
+        char[] out = new char[LENGTH];
+        for (int row = 0; row < ROWS; row++) {
+            for (int h = 0; h < HEX_PER_ROW; h++) {
+                int slot = h * 4;
+                long word = bits[row * 2 + (slot >= 64 ? 1 : 0)];
+                out[row * HEX_PER_ROW + h] = HEX[(int) (word >>> (slot & 63)) & 0xf];
+            }
+        }
+        return new String(out);
+    }
+}
@@ -0,0 +1,7 @@
+package BuyThisDoHippo.Mapoop.domain.toilet.event;
+
+/**
+ * 화장실 읽기 모델(카탈로그)에 반영할 변경 알림
+ * 좌표/운영시간/태그/평점/대표 이미지가 바뀌는 트랜잭션에서 발행 → 커밋 이후 해당 화장실만 다시 읽음
+ */
+public record ToiletChangedEvent(Long toiletId) {}
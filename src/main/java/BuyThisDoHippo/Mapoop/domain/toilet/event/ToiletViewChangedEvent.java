@@ -0,0 +1,9 @@
+package BuyThisDoHippo.Mapoop.domain.toilet.event;
+
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletView;
+
+/**
+ * 카탈로그에 새 버전이 반영된 뒤 발행 (변경 전/후 뷰)
+ * 등록이면 before == null, 삭제면 after == null
+ */
+public record ToiletViewChangedEvent(ToiletView before, ToiletView after) {}
@@ -0,0 +1,61 @@
+package BuyThisDoHippo.Mapoop.domain.toilet.repository;
+
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.ToiletChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ToiletChangeRepository extends JpaRepository<ToiletChange, Long> {
+
+    // 인터페이스 기반 Projection (settled: DB 시각 기준 settleSeconds 이전에 기록된 행이면 1)
+    interface ChangeRow {
+        Long getId();
+        Long getToiletId();
+        Integer getSettled();
+    }
+
+    @Query(value = """
+        SELECT c.id AS id, c.toilet_id AS toiletId,
+               CASE WHEN c.created_at <= NOW(6) - INTERVAL :settleSeconds SECOND THEN 1 ELSE 0 END AS settled
+          FROM toilet_change c
+         WHERE c.id > :since
+         ORDER BY c.id
+         LIMIT :limit
+    """, nativeQuery = true)
+    List<ChangeRow> findSince(@Param("since") long since,
+                              @Param("limit") int limit,
+                              @Param("settleSeconds") long settleSeconds);
+
+    // 인터페이스 기반 Projection (상세 ETag 재료: 화장실의 마지막 변경 버전 + 운영표)
+    interface DetailVersion {
+        Long getVersion();
+        String getWeeklySchedule();
+        Boolean getOpen24h();
+        LocalTime getOpenTime();
+        LocalTime getCloseTime();
+    }
+
+    @Query(value = """
+        SELECT (SELECT MAX(c.id) FROM toilet_change c WHERE c.toilet_id = t.id) AS version,
+               t.weekly_schedule AS weeklySchedule, t.open_24h AS open24h,
+               t.open_time AS openTime, t.close_time AS closeTime
+          FROM toilet t
+         WHERE t.id = :toiletId
+    """, nativeQuery = true)
+    Optional<DetailVersion> findDetailVersion(@Param("toiletId") Long toiletId);
+
+    // 같은 화장실의 더 최신 행이 있는 이전 행 삭제 (화장실마다 마지막 행만 남김)
+    @Modifying
+    @Query(value = """
+        DELETE c FROM toilet_change c
+          JOIN toilet_change n ON n.toilet_id = c.toilet_id AND n.id > c.id
+    """, nativeQuery = true)
+    int deleteSuperseded();
+}
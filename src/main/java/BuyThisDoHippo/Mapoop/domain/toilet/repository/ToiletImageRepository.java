@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,25 @@ public interface ToiletImageRepository extends JpaRepository<ToiletImage, Long>
 
     Optional<ToiletImage> findFirstByToilet_IdOrderByCreatedAtAsc(Long id);
 
+    // 인터페이스 기반 Projection (목록 대표 이미지용)
+    interface ToiletMainImage {
+        Long getToiletId();
+        String getImageUrl();
+    }
+
+    // 화장실별 가장 먼저 등록된 이미지 (동시 등록이면 id 작은 순으로 앞에 옴)
+    @Query("""
+        select ti.toilet.id as toiletId, i.imageUrl as imageUrl
+        from ToiletImage ti
+        join ti.image i
+        where ti.toilet.id in :toiletIds
+          and ti.createdAt = (
+              select min(ti2.createdAt) from ToiletImage ti2
+              where ti2.toilet.id = ti.toilet.id
+          )
+        order by ti.id asc
+    """)
+    List<ToiletMainImage> findMainImagesByToiletIds(@Param("toiletIds") Collection<Long> toiletIds);
 
     @Query("select ti from ToiletImage ti join fetch ti.image where ti.image.id = :imageId")
     Optional<ToiletImage> findByImageIdWithImage(@Param("imageId") Long imageId);
@@ -4,11 +4,12 @@ import BuyThisDoHippo.Mapoop.domain.toilet.entity.Toilet;
 import BuyThisDoHippo.Mapoop.domain.toilet.entity.ToiletType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,14 +19,31 @@ public interface ToiletRepository extends JpaRepository<Toilet, Long> {
 
     List<Toilet> findByNameContainingIgnoreCaseOrderByAvgRatingDesc(String keyword, Pageable pageable);
 
+    // 인터페이스 기반 Projection (자동완성 인덱스 적재용)
+    interface ToiletNameSummary {
+        Long getId();
+        String getName();
+        String getAddress();
+        Double getAvgRating();
+    }
+
+    @Query("select t.id as id, t.name as name, t.address as address, t.avgRating as avgRating from Toilet t")
+    List<ToiletNameSummary> findAllNameSummaries();
+
+    // 평점 DESC → 이름 ASC 상위 N개 (위치 없는 홈/긴급 목록)
+    @Query("select t from Toilet t order by t.avgRating desc, t.name asc")
+    List<Toilet> findTopRated(Pageable pageable);
+
     @Query("""
-      select distinct t
+      select t
       from Toilet t
-      left join fetch t.toiletTags tt        
-      left join fetch tt.tag tag         
       where (:keyword is null
              or lower(t.name) like lower(concat('%', :keyword, '%'))
              or lower(t.address) like lower(concat('%', :keyword, '%')))
+        and (:candidateIds is null or t.id in :candidateIds)
+        and (:swLat is null
+             or (t.latitude between :swLat and :neLat
+                 and t.longitude between :swLng and :neLng))
         and (:minRating is null or t.avgRating >= :minRating)
         and (:type is null or t.type = :type)
         and (
@@ -40,26 +58,178 @@ public interface ToiletRepository extends JpaRepository<Toilet, Long> {
         )
         and (
              :requireAvailable = false
-             or (
-                  t.open24h = true
-                  or (
-                      t.openTime is not null and t.closeTime is not null and
-                      (
-                          (t.openTime <  t.closeTime and :now between t.openTime and t.closeTime)
-                          or
-                          (t.openTime >= t.closeTime and (:now >= t.openTime or :now < t.closeTime))
-                      )
-                  )
-             )
+             or locate(substring(t.weeklySchedule, :hexIndex, 1), :hexDigits) > 0
         )
+      order by t.name asc
     """)
     List<Toilet> searchAllFiltered(@Param("keyword") String keyword,
+                                   @Param("candidateIds") List<Long> candidateIds,
+                                   @Param("swLat") Double swLat,
+                                   @Param("swLng") Double swLng,
+                                   @Param("neLat") Double neLat,
+                                   @Param("neLng") Double neLng,
                                    @Param("minRating") Double minRating,
                                    @Param("type") ToiletType type,
                                    @Param("tagIds") List<Long> tagIds,
                                    @Param("tagCnt") long tagCnt,
                                    @Param("requireAvailable") boolean requireAvailable,
-                                   @Param("now") LocalTime now);
+                                   @Param("hexIndex") int hexIndex,
+                                   @Param("hexDigits") String hexDigits);
+
+    /** 반경 조회 결과 (id + 거리 m) */
+    interface ToiletDistance {
+        Long getId();
+        Double getDistance();
+    }
+
+    /**
+     * 반경 radius(m) 안의 화장실 id를 가까운 순으로
+     * - MBRContains: location SPATIAL INDEX로 사각형 선필터
+     * - ST_Distance_Sphere: 실제 거리로 자르고 정렬
+     * bbox는 GeoUtils.boundingBoxWkt 로 생성
+     */
+    @Query(value = """
+        SELECT t.id AS id,
+               ST_Distance_Sphere(t.location, ST_SRID(POINT(:lat, :lng), 4326)) AS distance
+          FROM toilet t
+         WHERE MBRContains(ST_GeomFromText(:bbox, 4326), t.location)
+           AND ST_Distance_Sphere(t.location, ST_SRID(POINT(:lat, :lng), 4326)) <= :radius
+         ORDER BY distance
+         LIMIT :limit
+    """, nativeQuery = true)
+    List<ToiletDistance> findIdsWithinRadius(@Param("lat") double lat,
+                                             @Param("lng") double lng,
+                                             @Param("bbox") String bbox,
+                                             @Param("radius") double radius,
+                                             @Param("limit") int limit);
+
+    // 인터페이스 기반 Projection (키워드 관련도)
+    interface ToiletRelevance {
+        Long getId();
+        Double getScore();
+    }
+
+    /**
+     * 이름/주소/설명 FULLTEXT(ngram) 검색
+     * - 필터: BOOLEAN MODE 구문 검색 ("키워드") → 연속된 ngram 일치, LIKE '%kw%'와 비슷한 결과
+     * - 점수: NATURAL LANGUAGE MODE 관련도
+     * idx_toilet_fulltext 는 ToiletSchemaInitializer 참고
+     */
+    @Query(value = """
+        SELECT t.id AS id,
+               MATCH(t.name, t.address, t.description) AGAINST (:keyword IN NATURAL LANGUAGE MODE) AS score
+          FROM toilet t
+         WHERE MATCH(t.name, t.address, t.description) AGAINST (:phrase IN BOOLEAN MODE)
+         ORDER BY score DESC
+         LIMIT :limit
+    """, nativeQuery = true)
+    List<ToiletRelevance> findIdsByFullText(@Param("keyword") String keyword,
+                                            @Param("phrase") String phrase,
+                                            @Param("limit") int limit);
 
+    /**
+     * 반경 radius(m) 안에서 FULLTEXT(ngram) 검색 (조건/점수는 findIdsByFullText와 같음)
+     * 공간 조건을 같은 조회에 넣어 반경 안 일치를 모두 가져옴 (전국 상위 N개를 먼저 자르지 않음)
+     */
+    @Query(value = """
+        SELECT t.id AS id,
+               MATCH(t.name, t.address, t.description) AGAINST (:keyword IN NATURAL LANGUAGE MODE) AS score
+          FROM toilet t
+         WHERE MATCH(t.name, t.address, t.description) AGAINST (:phrase IN BOOLEAN MODE)
+           AND MBRContains(ST_GeomFromText(:bbox, 4326), t.location)
+           AND ST_Distance_Sphere(t.location, ST_SRID(POINT(:lat, :lng), 4326)) <= :radius
+         ORDER BY score DESC
+    """, nativeQuery = true)
+    List<ToiletRelevance> findIdsByFullTextWithinRadius(@Param("keyword") String keyword,
+                                                        @Param("phrase") String phrase,
+                                                        @Param("lat") double lat,
+                                                        @Param("lng") double lng,
+                                                        @Param("bbox") String bbox,
+                                                        @Param("radius") double radius);
 
-}
\ No newline at end of file
+    /**
+     * 리뷰 별점 증감을 평점 집계에 반영 (행에서 바로 더함 → 동시 리뷰에도 유실 없음, 리뷰 수와 무관)
+     * 평균/리뷰 수는 증감 전 합계/개수 + 변화량으로 계산 (SET 평가 순서와 무관하도록 먼저 둠)
+     * 평균은 DECIMAL 나눗셈 → reconcileRatings의 ROUND(SUM / COUNT, 1)와 반올림이 같음
+     * 영속성 컨텍스트는 거치지 않으므로 이미 읽은 Toilet은 호출한 쪽에서 refresh
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Toilet t set
+            t.avgRating = case when t.ratingCount + :countDelta > 0
+                               then round(cast(t.ratingSum + :sumDelta as BigDecimal) / (t.ratingCount + :countDelta), 1)
+                               else 0.0 end,
+            t.totalReviews = t.ratingCount + :countDelta,
+            t.rating1 = t.rating1 + :d1,
+            t.rating2 = t.rating2 + :d2,
+            t.rating3 = t.rating3 + :d3,
+            t.rating4 = t.rating4 + :d4,
+            t.rating5 = t.rating5 + :d5,
+            t.ratingSum = t.ratingSum + :sumDelta,
+            t.ratingCount = t.ratingCount + :countDelta
+        where t.id = :toiletId
+    """)
+    int applyRatingDelta(@Param("toiletId") Long toiletId,
+                         @Param("sumDelta") long sumDelta,
+                         @Param("countDelta") int countDelta,
+                         @Param("d1") int d1, @Param("d2") int d2, @Param("d3") int d3,
+                         @Param("d4") int d4, @Param("d5") int d5);
+
+    // 리뷰(ACTIVE)에서 다시 센 값과 평점 집계가 다른 화장실
+    @Query(value = """
+        SELECT t.id FROM toilet t
+          LEFT JOIN (SELECT r.toilet_id, SUM(r.rating) AS s, COUNT(*) AS c,
+                            SUM(r.rating = 1) AS r1, SUM(r.rating = 2) AS r2, SUM(r.rating = 3) AS r3,
+                            SUM(r.rating = 4) AS r4, SUM(r.rating = 5) AS r5
+                       FROM review r
+                      WHERE r.type = 'ACTIVE'
+                      GROUP BY r.toilet_id) a ON a.toilet_id = t.id
+         WHERE t.rating_sum <> COALESCE(a.s, 0) OR t.rating_count <> COALESCE(a.c, 0)
+            OR t.rating_1 <> COALESCE(a.r1, 0) OR t.rating_2 <> COALESCE(a.r2, 0) OR t.rating_3 <> COALESCE(a.r3, 0)
+            OR t.rating_4 <> COALESCE(a.r4, 0) OR t.rating_5 <> COALESCE(a.r5, 0)
+            OR NOT (t.total_reviews <=> COALESCE(a.c, 0))
+            OR NOT (t.avg_rating <=> COALESCE(ROUND(a.s / a.c, 1), 0))
+    """, nativeQuery = true)
+    List<Long> findRatingDriftIds();
+
+    // 해당 화장실들의 평점 집계를 리뷰(ACTIVE)에서 다시 계산해서 덮어씀
+    @Modifying
+    @Query(value = """
+        UPDATE toilet t
+          LEFT JOIN (SELECT r.toilet_id, SUM(r.rating) AS s, COUNT(*) AS c,
+                            SUM(r.rating = 1) AS r1, SUM(r.rating = 2) AS r2, SUM(r.rating = 3) AS r3,
+                            SUM(r.rating = 4) AS r4, SUM(r.rating = 5) AS r5
+                       FROM review r
+                      WHERE r.type = 'ACTIVE' AND r.toilet_id IN (:ids)
+                      GROUP BY r.toilet_id) a ON a.toilet_id = t.id
+           SET t.rating_sum = COALESCE(a.s, 0),
+               t.rating_count = COALESCE(a.c, 0),
+               t.rating_1 = COALESCE(a.r1, 0),
+               t.rating_2 = COALESCE(a.r2, 0),
+               t.rating_3 = COALESCE(a.r3, 0),
+               t.rating_4 = COALESCE(a.r4, 0),
+               t.rating_5 = COALESCE(a.r5, 0),
+               t.total_reviews = COALESCE(a.c, 0),
+               t.avg_rating = COALESCE(ROUND(a.s / a.c, 1), 0)
+         WHERE t.id IN (:ids)
+    """, nativeQuery = true)
+    int reconcileRatings(@Param("ids") Collection<Long> ids);
+
+    // 인터페이스 기반 Projection (평점 분포용)
+    interface RatingHistogram {
+        Integer getRatingCount();
+        Integer getRating1();
+        Integer getRating2();
+        Integer getRating3();
+        Integer getRating4();
+        Integer getRating5();
+    }
+
+    @Query("""
+        select t.ratingCount as ratingCount, t.rating1 as rating1, t.rating2 as rating2,
+               t.rating3 as rating3, t.rating4 as rating4, t.rating5 as rating5
+        from Toilet t
+        where t.id = :toiletId
+    """)
+    RatingHistogram findRatingHistogram(@Param("toiletId") Long toiletId);
+}
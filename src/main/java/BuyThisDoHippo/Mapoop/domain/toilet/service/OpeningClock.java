@@ -0,0 +1,45 @@
+package BuyThisDoHippo.Mapoop.domain.toilet.service;
+
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.ScheduleDay;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.WeeklySchedule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 운영 여부 판단 기준 시각 (서울 기준 요일/공휴일 + 15분 칸)
+ * 공휴일은 app.holidays (yyyy-MM-dd, 쉼표 구분)
+ */
+@Component
+public class OpeningClock {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final Set<LocalDate> holidays;
+
+    public OpeningClock(@Value("${app.holidays:}") List<String> holidays) {
+        this.holidays = holidays.stream()
+                .map(String::trim)
+                .filter(s -> !s.isBlank())
+                .map(LocalDate::parse)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public WeeklySchedule.Moment now() {
+        return at(LocalDateTime.now(ZONE));
+    }
+
+    public WeeklySchedule.Moment at(LocalDateTime time) {
+        LocalDate date = time.toLocalDate();
+        ScheduleDay weekday = ScheduleDay.of(date.getDayOfWeek(), false);
+        ScheduleDay day = holidays.contains(date) ? ScheduleDay.HOLIDAY : weekday;
+        boolean afterHoliday = holidays.contains(date.minusDays(1));
+        return new WeeklySchedule.Moment(day, WeeklySchedule.slotOf(time.toLocalTime()), weekday, afterHoliday);
+    }
+}
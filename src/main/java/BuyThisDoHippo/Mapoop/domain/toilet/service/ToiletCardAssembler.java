@@ -0,0 +1,104 @@
+package BuyThisDoHippo.Mapoop.domain.toilet.service;
+
+import BuyThisDoHippo.Mapoop.domain.map.dto.MarkerInfo;
+import BuyThisDoHippo.Mapoop.domain.search.dto.EmergencyResponse;
+import BuyThisDoHippo.Mapoop.domain.search.rank.ToiletRanking;
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletView;
+import BuyThisDoHippo.Mapoop.domain.toilet.dto.ToiletInfo;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.WeeklySchedule;
+import BuyThisDoHippo.Mapoop.global.common.TagConstants;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 목록 응답(검색/홈/긴급/지도 마커) 카드 조립
+ * - 입력은 카탈로그 뷰 (태그/대표 이미지/운영표 비트 포함) → 추가 쿼리 없음
+ * - 현재 이용 가능: 주간 운영표 비트 확인 → 가상 태그 추가
+ * - stream*: 카드를 하나씩 만들어 바로 내보내는 경우 (목록 전체를 들고 있지 않음)
+ */
+@Component
+public class ToiletCardAssembler {
+
+    public List<ToiletInfo> toToiletInfos(ToiletRanking.Ranked ranked, WeeklySchedule.Moment now) {
+        return streamToiletInfos(ranked, now).toList();
+    }
+
+    public Stream<ToiletInfo> streamToiletInfos(ToiletRanking.Ranked ranked, WeeklySchedule.Moment now) {
+        return IntStream.range(0, ranked.size()).mapToObj(i -> {
+            ToiletView t = ranked.toilets().get(i);
+            return ToiletInfo.builder()
+                    .toiletId(t.id())
+                    .name(t.name())
+                    .type(t.type().name())
+                    .latitude(t.latitude())
+                    .longitude(t.longitude())
+                    .address(t.address())
+                    .rating(t.ratingOrZero())
+                    .distance(ranked.distance(i))
+                    .tags(tags(t, t.isOpenNow(now)))
+                    .isPartnership(t.isPartnership())
+                    .mainImageUrl(t.mainImageUrl())
+                    .build();
+        });
+    }
+
+    public List<EmergencyResponse> toEmergencyResponses(ToiletRanking.Ranked ranked, WeeklySchedule.Moment now) {
+        return IntStream.range(0, ranked.size()).mapToObj(i -> {
+            ToiletView t = ranked.toilets().get(i);
+            boolean available = t.isOpenNow(now);
+            return EmergencyResponse.builder()
+                    .toiletId(t.id())
+                    .name(t.name())
+                    .type(t.type().name())
+                    .latitude(t.latitude())
+                    .longitude(t.longitude())
+                    .address(t.address())
+                    .rating(t.ratingOrZero())
+                    .distance(ranked.distance(i))
+                    .tags(tags(t, available))
+                    .isOpenNow(available)
+                    .openTime(t.openTime())
+                    .closeTime(t.closeTime())
+                    .isOpen24h(t.open24h())
+                    .mainImageUrl(t.mainImageUrl())
+                    .build();
+        }).toList();
+    }
+
+    public List<MarkerInfo> toMarkerInfos(ToiletRanking.Ranked ranked, WeeklySchedule.Moment now) {
+        return streamMarkerInfos(ranked, now).toList();
+    }
+
+    public Stream<MarkerInfo> streamMarkerInfos(ToiletRanking.Ranked ranked, WeeklySchedule.Moment now) {
+        return IntStream.range(0, ranked.size()).mapToObj(i -> {
+            ToiletView t = ranked.toilets().get(i);
+            boolean available = t.isOpenNow(now);
+            return MarkerInfo.builder()
+                    .toiletId(t.id())
+                    .type(t.type().name())
+                    .latitude(t.latitude())
+                    .longitude(t.longitude())
+                    .name(t.name())
+                    .rating(t.ratingOrZero())
+                    .tags(tags(t, available))
+                    .isOpenNow(available)
+                    .address(t.address())
+                    .isOpen24h(t.open24h())
+                    .openTime(t.openTime())
+                    .closeTime(t.closeTime())
+                    .distance(ranked.distance(i))
+                    .mainImageUrl(t.mainImageUrl())
+                    .build();
+        });
+    }
+
+    // 태그 이름들 (기존 db + 현재이용가능)
+    private static List<String> tags(ToiletView t, boolean available) {
+        List<String> tagNames = new ArrayList<>(t.tags());
+        if (available) tagNames.add(TagConstants.VIRTUAL_AVAILABLE);
+        return tagNames;
+    }
+}
@@ -0,0 +1,123 @@
+package BuyThisDoHippo.Mapoop.domain.toilet.service;
+
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletCatalog;
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletView;
+import BuyThisDoHippo.Mapoop.domain.toilet.dto.ToiletChangesResponse;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.ToiletChange;
+import BuyThisDoHippo.Mapoop.domain.toilet.event.ToiletChangedEvent;
+import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletChangeRepository;
+import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 화장실 변경 로그 (클라이언트 복제본 delta 동기화)
+ * - 화장실/리뷰(평점)/태그/이미지 변경이 발행하는 ToiletChangedEvent → 같은 트랜잭션 안에서 한 행 기록
+ * - since 이후 변경을 버전 순서로, 화장실마다 마지막 변경만 (있으면 현재 상태, 없으면 삭제 표시)
+ *   내용은 같은 읽기 트랜잭션에서 DB 행으로 만듦 (노드 카탈로그가 뒤처져도 새 버전에 옛 내용이 실리지 않음)
+ * - 주기적으로 화장실마다 마지막 행만 남기고 정리 → since=0 이면 전체 목록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ToiletChangeService {
+
+    public static final int MAX_LIMIT = 2000;
+    /** 이보다 최근 행부터는 다음 요청으로 미룸 (번호 순서와 커밋 순서가 다를 수 있음, DB 시각 기준) */
+    private static final Duration SETTLE = Duration.ofSeconds(5);
+
+    private final ToiletChangeRepository toiletChangeRepository;
+    private final ToiletRepository toiletRepository;
+    private final ToiletCatalog toiletCatalog;
+
+    /** 커밋 직전 같은 트랜잭션에서 기록 → 변경과 로그가 함께 커밋/롤백 */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onToiletChanged(ToiletChangedEvent event) {
+        if (event.toiletId() == null) return;
+        // created_at은 DB 기본값 (CURRENT_TIMESTAMP)
+        toiletChangeRepository.save(ToiletChange.builder()
+                .toiletId(event.toiletId())
+                .build());
+    }
+
+    @Transactional(readOnly = true)
+    public ToiletChangesResponse getChanges(long since, int limit) {
+        List<ToiletChangeRepository.ChangeRow> rows =
+                toiletChangeRepository.findSince(since, limit, SETTLE.toSeconds());
+
+        // 아직 자리 잡지 않은 행 앞에서 끊음 (앞 번호가 늦게 커밋되면 건너뛰지 않도록)
+        int end = 0;
+        while (end < rows.size() && Integer.valueOf(1).equals(rows.get(end).getSettled())) end++;
+
+        // 화장실마다 마지막 버전만 (다시 넣어서 버전 순서 유지)
+        Map<Long, Long> latest = new LinkedHashMap<>();
+        for (ToiletChangeRepository.ChangeRow row : rows.subList(0, end)) {
+            latest.remove(row.getToiletId());
+            latest.put(row.getToiletId(), row.getId());
+        }
+
+        Map<Long, ToiletView> views = findViews(latest.keySet());
+        List<ToiletChangesResponse.Change> changes = new ArrayList<>(latest.size());
+        latest.forEach((toiletId, version) -> changes.add(toChange(version, toiletId, views.get(toiletId))));
+
+        return ToiletChangesResponse.builder()
+                .version(end == 0 ? since : rows.get(end - 1).getId())
+                .hasMore(end == limit)
+                .changes(changes)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${app.toilet-changes.compact-ms:3600000}")
+    @Transactional
+    public void compact() {
+        int deleted = toiletChangeRepository.deleteSuperseded();
+        if (deleted > 0) {
+            log.info("화장실 변경 로그 정리 - {}건", deleted);
+        }
+    }
+
+    // 변경 행과 같은 트랜잭션에서 DB 행으로 → 없으면 삭제된 화장실
+    private Map<Long, ToiletView> findViews(Collection<Long> ids) {
+        if (ids.isEmpty()) return Map.of();
+        Map<Long, ToiletView> out = new HashMap<>(ids.size() * 2);
+        for (ToiletView view : toiletCatalog.freshViewsOf(toiletRepository.findAllById(ids))) {
+            out.put(view.id(), view);
+        }
+        return out;
+    }
+
+    private static ToiletChangesResponse.Change toChange(Long version, Long toiletId, ToiletView v) {
+        if (v == null) {
+            return ToiletChangesResponse.Change.builder()
+                    .version(version)
+                    .toiletId(toiletId)
+                    .deleted(true)
+                    .build();
+        }
+        return ToiletChangesResponse.Change.builder()
+                .version(version)
+                .toiletId(toiletId)
+                .name(v.name())
+                .type(v.type() == null ? null : v.type().name())
+                .latitude(v.latitude())
+                .longitude(v.longitude())
+                .address(v.address())
+                .floor(v.floor())
+                .rating(v.avgRating())
+                .totalReviews(v.totalReviews())
+                .isPartnership(v.isPartnership())
+                .isOpen24h(Boolean.TRUE.equals(v.open24h()))
+                .weeklySchedule(v.weeklySchedule())
+                .mainImageUrl(v.mainImageUrl())
+                .tags(v.tags())
+                .build();
+    }
+}
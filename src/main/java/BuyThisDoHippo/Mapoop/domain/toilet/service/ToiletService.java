@@ -5,23 +5,31 @@ import BuyThisDoHippo.Mapoop.domain.image.service.ImageCommandService;
 import BuyThisDoHippo.Mapoop.domain.tag.repository.ToiletTagRepository;
 import BuyThisDoHippo.Mapoop.domain.tag.service.TagService;
 import BuyThisDoHippo.Mapoop.domain.toilet.dto.*;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.ScheduleDay;
 import BuyThisDoHippo.Mapoop.domain.toilet.entity.Toilet;
 import BuyThisDoHippo.Mapoop.domain.toilet.entity.ToiletImage;
 import BuyThisDoHippo.Mapoop.domain.toilet.entity.ToiletType;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.WeeklySchedule;
+import BuyThisDoHippo.Mapoop.domain.toilet.event.ToiletChangedEvent;
+import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletChangeRepository;
 import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletImageRepository;
 import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletRepository;
 import BuyThisDoHippo.Mapoop.domain.user.entity.User;
 import BuyThisDoHippo.Mapoop.domain.user.repository.UserRepository;
+import BuyThisDoHippo.Mapoop.global.cache.CacheNamespace;
+import BuyThisDoHippo.Mapoop.global.cache.TwoLevelCache;
 import BuyThisDoHippo.Mapoop.global.error.ApplicationException;
 import BuyThisDoHippo.Mapoop.global.error.CustomErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalTime;
-import java.time.ZoneId;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @RequiredArgsConstructor
@@ -38,6 +46,10 @@ public class ToiletService {
     private final ToiletTagRepository toiletTagRepository;
     private final ToiletImageRepository toiletImageRepository;
     private final ImageCommandService imageCommandService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TwoLevelCache twoLevelCache;
+    private final OpeningClock openingClock;
+    private final ToiletChangeRepository toiletChangeRepository;
 
     public ToiletRegisterResponse createToilet(ToiletRegisterRequest request, Long userId) {
         log.debug("화장실 등록 요청 - 등록자 id: {}", userId);
@@ -70,6 +82,7 @@ public class ToiletService {
                 .openTime(openTime)
                 .closeTime(closeTime)
                 .open24h(isOpen24h)
+                .weeklySchedule(buildSchedule(isOpen24h, openTime, closeTime, request.getWeeklyHours()))
                 .avgRating(0.0)
                 .totalReviews(0)
                 .description(request.getDescription())
@@ -78,6 +91,8 @@ public class ToiletService {
                 .build();
 
         Toilet saved = toiletRepository.save(newToilet);
+        eventPublisher.publishEvent(new ToiletChangedEvent(saved.getId()));
+        twoLevelCache.evictAll(CacheNamespace.AUTOCOMPLETE);
 
         // 함께 요청된 태그 연결
         tagService.attachByNames(saved, request.getTags());
@@ -93,6 +108,23 @@ public class ToiletService {
                 .build();
     }
 
+    /**
+     * 상세 응답 ETag (화장실의 마지막 변경 로그 번호 + 현재 이용 가능 여부)
+     * 상세는 DB에서 만들므로 같은 DB 값 기준 → 노드와 무관, 인덱스 조회 한 번 / 모르면 null
+     */
+    @Transactional(readOnly = true)
+    public String detailETag(Long toiletId) {
+        return toiletChangeRepository.findDetailVersion(toiletId)
+                .filter(v -> v.getVersion() != null)
+                .map(v -> {
+                    String schedule = v.getWeeklySchedule() != null ? v.getWeeklySchedule()
+                            : WeeklySchedule.daily(v.getOpen24h(), v.getOpenTime(), v.getCloseTime());
+                    boolean open = WeeklySchedule.isOpen(schedule, openingClock.now());
+                    return Long.toString(v.getVersion(), 36) + (open ? "-o" : "-c");
+                })
+                .orElse(null);
+    }
+
     @Transactional(readOnly = true)
     public ToiletDetailResponse getToiletDetail(Long toiletId) {
         Toilet toilet = toiletRepository.findById(toiletId)
@@ -100,7 +132,8 @@ public class ToiletService {
 
         List<String> tagNames = toiletTagRepository.findTagNamesByToiletId(toiletId);
 
-        if(toilet.isOpenNow(LocalTime.now(ZoneId.of("Asia/Seoul")))) {
+        boolean openNow = toilet.isOpenNow(openingClock.now());
+        if(openNow) {
             if(!tagNames.contains(TAG_AVAILABLE_NOW))
                 tagNames.add(TAG_AVAILABLE_NOW);
         }
@@ -128,7 +161,8 @@ public class ToiletService {
                         .openTime(toilet.getOpenTime())
                         .closeTime(toilet.getCloseTime())
                         .isOpen24h(Boolean.TRUE.equals(toilet.getOpen24h()))
-                        .isOpenNow(toilet.isOpenNow(LocalTime.now(ZoneId.of("Asia/Seoul"))))
+                        .isOpenNow(openNow)
+                        .weeklySchedule(toilet.scheduleOrDaily())
                         .build())
                 .isPartnership(Boolean.TRUE.equals(toilet.getIsPartnership()))
                 .description(toilet.getDescription())
@@ -175,6 +209,8 @@ public class ToiletService {
             toilet.setOpenTime(request.getOpenTime());
             toilet.setCloseTime(request.getCloseTime());
         }
+        toilet.setWeeklySchedule(buildSchedule(
+                is24, toilet.getOpenTime(), toilet.getCloseTime(), request.getWeeklyHours()));
 
         // 태그 관련
         if (request.getTags() != null) {
@@ -185,6 +221,8 @@ public class ToiletService {
         toilet.setDescription(request.getDescription());
 
         toiletRepository.save(toilet);
+        eventPublisher.publishEvent(new ToiletChangedEvent(toilet.getId()));
+        twoLevelCache.evictAll(CacheNamespace.AUTOCOMPLETE);
 
         if (request.getImageIds() != null && !request.getImageIds().isEmpty()) {
             imageCommandService.attachOnlyNew(toilet, request.getImageIds());
@@ -206,4 +244,23 @@ public class ToiletService {
                         .build())
                 .toList();
     }
+
+    /**
+     * 기본 운영시간 + 요일별 운영시간 → 주간 운영표 비트맵
+     * 같은 요일이 여러 번 오면 마지막 값 사용
+     */
+    private String buildSchedule(boolean open24h, LocalTime openTime, LocalTime closeTime, List<DailyHours> weeklyHours) {
+        Map<ScheduleDay, WeeklySchedule.Hours> byDay = new EnumMap<>(ScheduleDay.class);
+        if (weeklyHours != null) {
+            for (DailyHours h : weeklyHours) {
+                if (h == null || h.getDay() == null) {
+                    throw new ApplicationException(CustomErrorCode.INVALID_REQUEST_DTO);
+                }
+                byDay.put(h.getDay(), Boolean.TRUE.equals(h.getIsClosed())
+                        ? WeeklySchedule.Hours.CLOSED
+                        : new WeeklySchedule.Hours(Boolean.TRUE.equals(h.getIsOpen24h()), h.getOpenTime(), h.getCloseTime()));
+            }
+        }
+        return WeeklySchedule.build(byDay, new WeeklySchedule.Hours(open24h, openTime, closeTime));
+    }
 }
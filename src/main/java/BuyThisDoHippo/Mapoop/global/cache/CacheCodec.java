@@ -0,0 +1,40 @@
+package BuyThisDoHippo.Mapoop.global.cache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * L2(Redis) 캐시 값 인코딩 규칙 (이름공간별로 하나씩 고정해서 사용)
+ * 프레임(버전/압축)은 CacheFrames가 씌우고, 코덱은 본문만 읽고 씀
+ */
+public interface CacheCodec<T> {
+
+    void write(T value, DataOutput out) throws IOException;
+
+    T read(DataInput in) throws IOException;
+
+    @FunctionalInterface
+    interface Writer<T> {
+        void write(T value, DataOutput out) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface Reader<T> {
+        T read(DataInput in) throws IOException;
+    }
+
+    static <T> CacheCodec<T> of(Writer<T> writer, Reader<T> reader) {
+        return new CacheCodec<>() {
+            @Override
+            public void write(T value, DataOutput out) throws IOException {
+                writer.write(value, out);
+            }
+
+            @Override
+            public T read(DataInput in) throws IOException {
+                return reader.read(in);
+            }
+        };
+    }
+}
@@ -0,0 +1,137 @@
+package BuyThisDoHippo.Mapoop.global.cache;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/* 자주 쓰는 캐시 코덱 모음 */
+public final class CacheCodecs {
+
+    // RedisTemplate 직렬화기와 같은 규칙 (필드 기준)
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private CacheCodecs() {}
+
+    /** 기존 JSON 형식 (스키마가 자주 바뀌는 값용) */
+    public static <T> CacheCodec<T> json(TypeReference<T> type) {
+        return CacheCodec.of(
+                (value, out) -> writeBytes(out, OBJECT_MAPPER.writeValueAsBytes(value)),
+                in -> OBJECT_MAPPER.readValue(readBytes(in), type));
+    }
+
+    public static <E> CacheCodec<List<E>> listOf(CacheCodec<E> element) {
+        return CacheCodec.of(
+                (list, out) -> {
+                    writeVarInt(out, list.size());
+                    for (E e : list) element.write(e, out);
+                },
+                in -> {
+                    int n = readVarInt(in);
+                    List<E> list = new ArrayList<>(n);
+                    for (int i = 0; i < n; i++) list.add(element.read(in));
+                    return list;
+                });
+    }
+
+    public static CacheCodec<Map<String, Long>> stringToLongMap() {
+        return CacheCodec.of(
+                (map, out) -> {
+                    writeVarInt(out, map.size());
+                    for (Map.Entry<String, Long> e : map.entrySet()) {
+                        out.writeUTF(e.getKey());
+                        writeVarLong(out, e.getValue());
+                    }
+                },
+                in -> {
+                    int n = readVarInt(in);
+                    Map<String, Long> map = new HashMap<>(n * 2);
+                    for (int i = 0; i < n; i++) map.put(in.readUTF(), readVarLong(in));
+                    return map;
+                });
+    }
+
+    public static CacheCodec<long[]> longArray() {
+        return CacheCodec.of(
+                (values, out) -> {
+                    writeVarInt(out, values.length);
+                    for (long v : values) writeVarLong(out, v);
+                },
+                in -> {
+                    long[] values = new long[readVarInt(in)];
+                    for (int i = 0; i < values.length; i++) values[i] = readVarLong(in);
+                    return values;
+                });
+    }
+
+    // ===== 기본형 헬퍼 =====
+
+    /** 0 이상 정수 가변 길이 (작은 값은 1바이트) */
+    public static void writeVarLong(DataOutput out, long v) throws IOException {
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    public static long readVarLong(DataInput in) throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return v;
+        }
+        throw new IOException("varint too long");
+    }
+
+    public static void writeVarInt(DataOutput out, int v) throws IOException {
+        writeVarLong(out, v & 0xffffffffL);
+    }
+
+    public static int readVarInt(DataInput in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    /** null 가능 문자열 (존재 여부 1B + UTF) */
+    public static void writeNullableUTF(DataOutput out, String s) throws IOException {
+        out.writeBoolean(s != null);
+        if (s != null) out.writeUTF(s);
+    }
+
+    public static String readNullableUTF(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /** null 가능 평점 (NaN = null) */
+    public static void writeNullableDouble(DataOutput out, Double d) throws IOException {
+        out.writeDouble(d == null ? Double.NaN : d);
+    }
+
+    public static Double readNullableDouble(DataInput in) throws IOException {
+        double d = in.readDouble();
+        return Double.isNaN(d) ? null : d;
+    }
+
+    private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,101 @@
+package BuyThisDoHippo.Mapoop.global.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * L2 캐시 값 프레임
+ * [버전 1B][플래그 1B][본문]
+ * - 버전이 다르면 읽지 않고 미스 처리 (형식 바꾸면 VERSION 올리기)
+ * - 본문이 COMPRESS_THRESHOLD 이상이고 압축해서 작아지면 deflate → [원본 길이 4B][압축 본문]
+ */
+final class CacheFrames {
+
+    static final byte VERSION = 1;
+    private static final byte FLAG_DEFLATE = 1;
+    private static final int COMPRESS_THRESHOLD = 512;
+
+    private CacheFrames() {}
+
+    static <T> byte[] encode(CacheCodec<T> codec, T value) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(128);
+        codec.write(value, new DataOutputStream(body));
+        byte[] raw = body.toByteArray();
+
+        byte[] compressed = raw.length >= COMPRESS_THRESHOLD ? deflate(raw) : null;
+        boolean useCompressed = compressed != null && compressed.length + 4 < raw.length;
+
+        ByteArrayOutputStream frame = new ByteArrayOutputStream(2 + (useCompressed ? compressed.length + 4 : raw.length));
+        DataOutputStream out = new DataOutputStream(frame);
+        out.writeByte(VERSION);
+        out.writeByte(useCompressed ? FLAG_DEFLATE : 0);
+        if (useCompressed) {
+            out.writeInt(raw.length);
+            out.write(compressed);
+        } else {
+            out.write(raw);
+        }
+        return frame.toByteArray();
+    }
+
+    /** 버전이 다르면 null */
+    static <T> T decode(CacheCodec<T> codec, byte[] frame) throws IOException {
+        if (frame == null || frame.length < 2 || frame[0] != VERSION) return null;
+
+        byte[] body;
+        if ((frame[1] & FLAG_DEFLATE) != 0) {
+            int rawLength = ((frame[2] & 0xff) << 24) | ((frame[3] & 0xff) << 16)
+                    | ((frame[4] & 0xff) << 8) | (frame[5] & 0xff);
+            body = inflate(frame, 6, rawLength);
+        } else {
+            body = new byte[frame.length - 2];
+            System.arraycopy(frame, 2, body, 0, body.length);
+        }
+        return codec.read(new DataInputStream(new ByteArrayInputStream(body)));
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            byte[] buf = new byte[raw.length];
+            int n = 0;
+            while (!deflater.finished() && n < buf.length) {
+                n += deflater.deflate(buf, n, buf.length - n);
+            }
+            if (!deflater.finished()) return null;  // 압축해도 안 줄어듦
+            byte[] out = new byte[n];
+            System.arraycopy(buf, 0, out, 0, n);
+            return out;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] frame, int offset, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(frame, offset, frame.length - offset);
+            byte[] out = new byte[rawLength];
+            int n = 0;
+            while (n < rawLength && !inflater.finished()) {
+                int read = inflater.inflate(out, n, rawLength - n);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                n += read;
+            }
+            if (n != rawLength) throw new IOException("truncated cache frame");
+            return out;
+        } catch (DataFormatException e) {
+            throw new IOException(e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
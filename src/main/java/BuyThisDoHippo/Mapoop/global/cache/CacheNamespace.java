@@ -0,0 +1,34 @@
+package BuyThisDoHippo.Mapoop.global.cache;
+
+import java.time.Duration;
+
+/**
+ * 2단계 캐시 이름공간
+ * - prefix: Redis(L2) 키 접두사
+ * - l1MaxSize / l1Ttl: 노드 로컬 캐시 크기와 최대 보관 시간 (L2 TTL보다 길게 들고 있지 않음)
+ * - l2Ttl: 기본 Redis 보관 시간
+ */
+public enum CacheNamespace {
+
+    AUTOCOMPLETE("autocomplete:", 5_000, Duration.ofSeconds(30), Duration.ofMinutes(5)),
+    TAG_DICTIONARY("tag_dict:", 16, Duration.ofMinutes(10), Duration.ofHours(1)),
+    TOILET_STATS("toilet_stats:", 10_000, Duration.ofMinutes(1), Duration.ofMinutes(30)),
+    MAP_TILE("map_tile:v1:", 20_000, Duration.ofMinutes(10), Duration.ofHours(1));
+
+    private final String prefix;
+    private final int l1MaxSize;
+    private final Duration l1Ttl;
+    private final Duration l2Ttl;
+
+    CacheNamespace(String prefix, int l1MaxSize, Duration l1Ttl, Duration l2Ttl) {
+        this.prefix = prefix;
+        this.l1MaxSize = l1MaxSize;
+        this.l1Ttl = l1Ttl;
+        this.l2Ttl = l2Ttl;
+    }
+
+    public String getPrefix() { return prefix; }
+    public int getL1MaxSize() { return l1MaxSize; }
+    public Duration getL1Ttl() { return l1Ttl; }
+    public Duration getL2Ttl() { return l2Ttl; }
+}
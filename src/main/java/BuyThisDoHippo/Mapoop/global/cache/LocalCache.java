@@ -0,0 +1,50 @@
+package BuyThisDoHippo.Mapoop.global.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 노드 로컬 L1 캐시
+ * - 최대 개수 초과 시 가장 오래 안 쓴 항목부터 제거 (LRU)
+ * - 항목마다 만료 시각을 들고 있고, 조회 시 지났으면 미스 처리
+ */
+class LocalCache {
+
+    private final int maxSize;
+    private final LinkedHashMap<String, Entry> map;
+
+    LocalCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > LocalCache.this.maxSize;
+            }
+        };
+    }
+
+    synchronized Object get(String key) {
+        Entry e = map.get(key);
+        if (e == null) return null;
+        if (e.expiresAt - System.nanoTime() <= 0) {
+            map.remove(key);
+            return null;
+        }
+        return e.value;
+    }
+
+    synchronized void put(String key, Object value, long ttlNanos) {
+        if (value == null || ttlNanos <= 0) return;
+        map.put(key, new Entry(value, System.nanoTime() + ttlNanos));
+    }
+
+    synchronized void remove(String key) {
+        map.remove(key);
+    }
+
+    synchronized void clear() {
+        map.clear();
+    }
+
+    private record Entry(Object value, long expiresAt) {}
+}
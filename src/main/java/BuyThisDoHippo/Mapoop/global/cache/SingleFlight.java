@@ -0,0 +1,133 @@
+package BuyThisDoHippo.Mapoop.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 미스 요청 합치기 (single-flight)
+ * - 노드 내: 같은 키로 동시에 들어온 요청은 먼저 온 요청의 로딩 결과(future)를 같이 기다림
+ * - 노드 간 (app.single-flight.distributed=true): 짧은 Redis 락(SET NX PX)을 잡은 노드만 로딩,
+ *   나머지는 잠깐 캐시를 다시 보면서 기다리다 끝까지 없으면 직접 로딩
+ */
+@Slf4j
+@Component
+public class SingleFlight {
+
+    private static final String LOCK_PREFIX = "lock:";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(3);
+    private static final long WAIT_STEP_MS = 50;
+    private static final int WAIT_STEPS = 20;
+
+    // 내 토큰일 때만 삭제 (다른 노드가 TTL 이후 잡은 락 보호)
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean distributed;
+
+    public SingleFlight(StringRedisTemplate stringRedisTemplate,
+                        @Value("${app.single-flight.distributed:false}") boolean distributed) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.distributed = distributed;
+    }
+
+    /** 노드 내에서만 합치기 */
+    public <T> T execute(String key, Supplier<T> loader) {
+        return join(key, loader);
+    }
+
+    /**
+     * 노드 내 + (설정 시) 노드 간 합치기
+     * @param cacheLookup 다른 노드가 채웠는지 확인 (없으면 null)
+     * @param loader      DB 조회 + 캐시 저장
+     */
+    public <T> T execute(String key, Supplier<T> cacheLookup, Supplier<T> loader) {
+        if (!distributed) return join(key, loader);
+        return join(key, () -> loadWithLock(key, cacheLookup, loader));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T join(String key, Supplier<T> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Error error) throw error;
+                throw unwrap(e);
+            }
+        }
+
+        try {
+            T value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (Throwable t) {
+            // Error(OOM 등)도 전달 → 기다리던 요청이 영영 걸려 있지 않도록
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private <T> T loadWithLock(String key, Supplier<T> cacheLookup, Supplier<T> loader) {
+        String lockKey = LOCK_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        Boolean acquired;
+        try {
+            acquired = stringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, LOCK_TTL);
+        } catch (Exception e) {
+            log.warn("single-flight 락 획득 실패, 직접 로딩: {}", e.getMessage());
+            return loader.get();
+        }
+
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                return loader.get();
+            } finally {
+                release(lockKey, token);
+            }
+        }
+
+        // 다른 노드가 로딩 중 → 캐시에 올라올 때까지 잠깐 대기
+        for (int i = 0; i < WAIT_STEPS; i++) {
+            try {
+                Thread.sleep(WAIT_STEP_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            T cached = cacheLookup.get();
+            if (cached != null) return cached;
+        }
+        return loader.get();
+    }
+
+    private void release(String lockKey, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            log.warn("single-flight 락 해제 실패 (TTL 만료 대기): {}", e.getMessage());
+        }
+    }
+
+    private static RuntimeException unwrap(CompletionException e) {
+        return e.getCause() instanceof RuntimeException re ? re : e;
+    }
+}
@@ -0,0 +1,190 @@
+package BuyThisDoHippo.Mapoop.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * L1(노드 로컬) + L2(Redis) 2단계 캐시
+ * - 조회: L1 → L2 (찾으면 L1에 올림) → loader (single-flight로 키당 한 번만)
+ * - L2 값은 이름공간마다 정한 CacheCodec으로 인코딩 (CacheFrames: 버전 + 큰 값 압축)
+ * - 무효화: 로컬 L1 즉시 제거 + Redis pub/sub으로 다른 노드 L1 제거
+ *   트랜잭션 안에서 호출되면 커밋 이후에 전파 (커밋 전 옛 값이 다시 올라오는 것 방지)
+ * - 이름공간 전체 무효화: L2 키에 세대 번호를 붙이고 Redis 카운터를 올림 (옛 세대 키는 TTL로 만료)
+ */
+@Slf4j
+@Component
+public class TwoLevelCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+    private static final String SEPARATOR = "|";
+    private static final String ALL_KEYS = "*";
+    private static final String GENERATION_KEY = "#gen";
+    private static final long UNKNOWN = -1L;
+
+    private final RedisTemplate<String, byte[]> cacheRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SingleFlight singleFlight;
+    private final Map<CacheNamespace, LocalCache> locals = new EnumMap<>(CacheNamespace.class);
+    // 이름공간별 L2 세대 번호 (UNKNOWN이면 다음 접근 때 Redis에서 읽음)
+    private final Map<CacheNamespace, AtomicLong> generations = new EnumMap<>(CacheNamespace.class);
+
+    public TwoLevelCache(RedisTemplate<String, byte[]> cacheRedisTemplate,
+                         StringRedisTemplate stringRedisTemplate,
+                         SingleFlight singleFlight) {
+        this.cacheRedisTemplate = cacheRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.singleFlight = singleFlight;
+        for (CacheNamespace ns : CacheNamespace.values()) {
+            locals.put(ns, new LocalCache(ns.getL1MaxSize()));
+            generations.put(ns, new AtomicLong(UNKNOWN));
+        }
+    }
+
+    /** L1 → L2 순으로 확인, 없으면 null */
+    public <T> T getIfPresent(CacheNamespace ns, String key, CacheCodec<T> codec) {
+        LocalCache local = locals.get(ns);
+        @SuppressWarnings("unchecked")
+        T hit = (T) local.get(key);
+        if (hit != null) return hit;
+
+        try {
+            T value = CacheFrames.decode(codec, cacheRedisTemplate.opsForValue().get(l2Key(ns, key)));
+            if (value == null) return null;
+            local.put(key, value, ns.getL1Ttl().toNanos());
+            return value;
+        } catch (Exception e) {
+            log.warn("L2 캐시 조회 실패 - {}{}: {}", ns.getPrefix(), key, e.getMessage());
+            return null;
+        }
+    }
+
+    public <T> void put(CacheNamespace ns, String key, CacheCodec<T> codec, T value, Duration l2Ttl) {
+        if (value == null) return;
+        Duration ttl = l2Ttl != null ? l2Ttl : ns.getL2Ttl();
+        locals.get(ns).put(key, value, l1TtlNanos(ns, ttl));
+        try {
+            cacheRedisTemplate.opsForValue().set(l2Key(ns, key), CacheFrames.encode(codec, value), ttl);
+        } catch (Exception e) {
+            log.warn("L2 캐시 저장 실패 - {}{}: {}", ns.getPrefix(), key, e.getMessage());
+        }
+    }
+
+    /** 캐시에 없으면 loader로 채움 (기본 L2 TTL) */
+    public <T> T get(CacheNamespace ns, String key, CacheCodec<T> codec, Supplier<T> loader) {
+        T cached = getIfPresent(ns, key, codec);
+        if (cached != null) return cached;
+
+        return singleFlight.execute(ns.getPrefix() + key, () -> getIfPresent(ns, key, codec), () -> {
+            T value = loader.get();
+            put(ns, key, codec, value, null);
+            return value;
+        });
+    }
+
+    /** 키 하나 제거 (L2 삭제 + 전 노드 L1 제거) */
+    public void evict(CacheNamespace ns, String key) {
+        afterCommit(() -> {
+            locals.get(ns).remove(key);
+            try {
+                cacheRedisTemplate.delete(l2Key(ns, key));
+            } catch (Exception e) {
+                log.warn("L2 캐시 삭제 실패 - {}{}: {}", ns.getPrefix(), key, e.getMessage());
+            }
+            publish(ns.name() + SEPARATOR + key);
+        });
+    }
+
+    /** 이름공간 전체 제거 (L2 세대 번호를 올려 옛 키를 버리고 전 노드 L1 제거) */
+    public void evictAll(CacheNamespace ns) {
+        afterCommit(() -> {
+            try {
+                Long next = stringRedisTemplate.opsForValue().increment(ns.getPrefix() + GENERATION_KEY);
+                generations.get(ns).set(next != null ? next : UNKNOWN);
+            } catch (Exception e) {
+                log.warn("L2 캐시 세대 변경 실패 - {}: {}", ns.getPrefix(), e.getMessage());
+            }
+            locals.get(ns).clear();
+            publish(ns.name() + SEPARATOR + ALL_KEYS);
+        });
+    }
+
+    // 다른 노드(자기 자신 포함)에서 온 무효화 메시지
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.indexOf(SEPARATOR);
+        if (sep < 0) return;
+        CacheNamespace ns;
+        try {
+            ns = CacheNamespace.valueOf(body.substring(0, sep));
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        String key = body.substring(sep + 1);
+        if (ALL_KEYS.equals(key)) {
+            // 세대 번호를 다시 읽고 L1 제거 (순서가 바뀌면 옛 세대 값이 L1에 다시 올라올 수 있음)
+            generations.get(ns).set(UNKNOWN);
+            locals.get(ns).clear();
+        } else {
+            locals.get(ns).remove(key);
+        }
+    }
+
+    private String l2Key(CacheNamespace ns, String key) {
+        return ns.getPrefix() + generation(ns) + ":" + key;
+    }
+
+    private long generation(CacheNamespace ns) {
+        AtomicLong holder = generations.get(ns);
+        long current = holder.get();
+        if (current != UNKNOWN) return current;
+        try {
+            String stored = stringRedisTemplate.opsForValue().get(ns.getPrefix() + GENERATION_KEY);
+            long loaded = stored != null ? Long.parseLong(stored) : 0L;
+            holder.compareAndSet(UNKNOWN, loaded);
+            return loaded;
+        } catch (Exception e) {
+            // Redis 장애 시 L2 조회/저장도 실패하므로 임시 값으로 진행
+            return 0L;
+        }
+    }
+
+    private void publish(String body) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, body);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 전파 실패 - {}: {}", body, e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // afterCompletion: 다른 커밋 후 콜백(AFTER_COMMIT 리스너) 안에서 등록해도 호출됨
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static long l1TtlNanos(CacheNamespace ns, Duration l2Ttl) {
+        return (l2Ttl.compareTo(ns.getL1Ttl()) < 0 ? l2Ttl : ns.getL1Ttl()).toNanos();
+    }
+}
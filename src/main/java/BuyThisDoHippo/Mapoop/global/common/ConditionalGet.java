@@ -0,0 +1,27 @@
+package BuyThisDoHippo.Mapoop.global.common;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * ETag 조건부 GET 공용 유틸
+ * - 응답을 만들기 전에 호출 → If-None-Match가 같으면 304 (컨트롤러는 null 반환)
+ * - Cache-Control: no-cache → 클라이언트가 저장해 두고 매번 재검증
+ *   (Spring Security 기본값 no-store면 클라이언트가 If-None-Match를 보내지 않음)
+ */
+public class ConditionalGet {
+
+    private ConditionalGet() {}
+
+    /** etag가 null이면 (버전을 모르면) 항상 false */
+    public static boolean notModified(ServletWebRequest request, String etag) {
+        if (etag == null) return false;
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        }
+        return request.checkNotModified(etag);
+    }
+}
@@ -0,0 +1,55 @@
+package BuyThisDoHippo.Mapoop.global.common;
+
+import java.util.Locale;
+
+/* 좌표 계산 공용 유틸 */
+public class GeoUtils {
+    public static final double EARTH_RADIUS_M = 6371000.0;
+    /** 위도 1도 당 거리 (m) */
+    public static final double METERS_PER_DEGREE = EARTH_RADIUS_M * Math.PI / 180.0;
+
+    private GeoUtils() {}
+
+    // m 기준 하버사인 계산
+    public static double haversineMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat/2)*Math.sin(dLat/2)
+                + Math.cos(Math.toRadians(lat1))*Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon/2)*Math.sin(dLon/2);
+        return 2 * EARTH_RADIUS_M * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
+    }
+
+    // 좌표 없으면 Integer.MAX_VALUE (정렬 시 맨 뒤)
+    public static int distanceMeters(double lat1, double lon1, Double lat2, Double lon2) {
+        if (lat2 == null || lon2 == null) return Integer.MAX_VALUE;
+        return (int) Math.round(haversineMeters(lat1, lon1, lat2, lon2));
+    }
+
+    /**
+     * 반경 radiusMeters를 감싸는 사각형 {minLat, minLng, maxLat, maxLng}
+     * 위경도 범위 조건(between) 선필터용
+     */
+    public static double[] boundingBox(double lat, double lng, double radiusMeters) {
+        double dLat = radiusMeters / METERS_PER_DEGREE;
+        double cosLat = Math.max(Math.cos(Math.toRadians(lat)), 1e-6);
+        double dLng = Math.min(180.0, radiusMeters / (METERS_PER_DEGREE * cosLat));
+
+        return new double[]{
+                Math.max(-90.0, lat - dLat), Math.max(-180.0, lng - dLng),
+                Math.min(90.0, lat + dLat), Math.min(180.0, lng + dLng)};
+    }
+
+    /**
+     * 반경 radiusMeters를 감싸는 사각형 WKT (SRID 4326, 위도-경도 축 순서)
+     * MBRContains 선필터용
+     */
+    public static String boundingBoxWkt(double lat, double lng, double radiusMeters) {
+        double[] b = boundingBox(lat, lng, radiusMeters);
+        double minLat = b[0], minLng = b[1], maxLat = b[2], maxLng = b[3];
+
+        return String.format(Locale.ROOT,
+                "POLYGON((%.7f %.7f, %.7f %.7f, %.7f %.7f, %.7f %.7f, %.7f %.7f))",
+                minLat, minLng, maxLat, minLng, maxLat, maxLng, minLat, maxLng, minLat, minLng);
+    }
+}
@@ -0,0 +1,52 @@
+package BuyThisDoHippo.Mapoop.global.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * NDJSON (한 줄 = JSON 객체 하나) 스트리밍 응답
+ * - 항목을 하나씩 직렬화해서 바로 내보냄 → 결과 개수와 관계없이 요청당 메모리 일정, 첫 바이트가 빨리 나감
+ * - FLUSH_EVERY 건마다 flush (작은 청크가 너무 많아지지 않도록)
+ * - 헤더가 이미 나간 뒤라 중간 오류는 상태 코드로 못 알림 → 로그 남기고 연결 종료
+ */
+@Slf4j
+public final class NdjsonResponse {
+
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private static final int FLUSH_EVERY = 64;
+
+    private NdjsonResponse() {}
+
+    public static ResponseEntity<StreamingResponseBody> of(ObjectMapper objectMapper, Stream<?> items) {
+        // writeValue 마다 flush 하지 않도록
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = out -> {
+            try (Stream<?> s = items;
+                 JsonGenerator gen = writer.createGenerator(out)) {
+                gen.setRootValueSeparator(null);
+                int written = 0;
+                for (Iterator<?> it = s.iterator(); it.hasNext(); ) {
+                    writer.writeValue(gen, it.next());
+                    gen.writeRaw('\n');
+                    if (++written % FLUSH_EVERY == 0) gen.flush();
+                }
+            } catch (Exception e) {
+                log.warn("NDJSON 스트리밍 중단: {}", e.getMessage());
+                throw e;
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(MEDIA_TYPE))
+                .body(body);
+    }
+}
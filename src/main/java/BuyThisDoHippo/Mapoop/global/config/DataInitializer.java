@@ -2,6 +2,7 @@ package BuyThisDoHippo.Mapoop.global.config;
 
 import BuyThisDoHippo.Mapoop.domain.tag.entity.Tag;
 import BuyThisDoHippo.Mapoop.domain.tag.repository.TagRepository;
+import BuyThisDoHippo.Mapoop.domain.tag.service.TagDictionary;
 import BuyThisDoHippo.Mapoop.domain.toilet.entity.Toilet;
 import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletRepository;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +19,7 @@ import java.util.List;
 public class DataInitializer implements CommandLineRunner {
 
     private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
     private final ToiletRepository toiletRepository;
 
     @Override
@@ -49,6 +51,7 @@ public class DataInitializer implements CommandLineRunner {
                     log.info("태그 생성됨: {}", name);
                 }
                 
+                tagDictionary.invalidate();
                 log.info("총 {}개의 태그가 생성되었습니다.", tagNames.size());
             } else {
                 log.info("태그 데이터가 이미 존재합니다. 초기화를 건너뜁니다.");
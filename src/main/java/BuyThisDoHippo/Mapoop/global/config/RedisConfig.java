@@ -1,5 +1,7 @@
 package BuyThisDoHippo.Mapoop.global.config;
 
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletCatalog;
+import BuyThisDoHippo.Mapoop.global.cache.TwoLevelCache;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -11,8 +13,11 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @EnableRedisRepositories
@@ -54,4 +59,26 @@ public class RedisConfig {
         log.info("RedisTemplate 설정 완료");
         return template;
     }
+
+    // 2단계 캐시 L2 전용 (값은 CacheCodec으로 직접 인코딩한 바이트)
+    @Bean
+    public RedisTemplate<String, byte[]> cacheRedisTemplate() {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory());
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    // 2단계 캐시 무효화 + 화장실 변경 메시지 구독 (노드 간 L1/카탈로그 동기화)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(TwoLevelCache twoLevelCache,
+                                                                       ToiletCatalog toiletCatalog) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(twoLevelCache, new ChannelTopic(TwoLevelCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(toiletCatalog, new ChannelTopic(ToiletCatalog.CHANGE_CHANNEL));
+        return container;
+    }
 }
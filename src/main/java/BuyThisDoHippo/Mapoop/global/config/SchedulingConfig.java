@@ -0,0 +1,10 @@
+package BuyThisDoHippo.Mapoop.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 주기 작업 (검색어 집계 flush 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,157 @@
+package BuyThisDoHippo.Mapoop.global.config;
+
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.WeeklySchedule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * JPA ddl-auto로 만들 수 없는 toilet 테이블 스키마 보강
+ * - location: 위경도에서 생성되는 POINT SRID 4326 (STORED generated column → lat/lng와 항상 동기화)
+ * - idx_toilet_location_spatial: location SPATIAL INDEX (반경 조회용)
+ * - idx_toilet_fulltext: 이름/주소/설명 FULLTEXT (ngram 파서, 한글 키워드 검색용)
+ * - main_image_url / thumbnail_url: 비정규화 컬럼 추가 이전 행 채우기
+ * - weekly_schedule: 운영표 추가 이전 행은 기본 운영시간으로 채우기
+ * - toilet_change.created_at: DB 시각 기본값 (ddl-auto update는 기존 컬럼 정의를 바꾸지 않음)
+ * - toilet_change: 변경 로그 도입 이전 화장실도 한 행씩 (since=0 동기화가 전체 목록이 되도록)
+ * - rating_sum / rating_count / rating_1~5: 평점 집계 추가 이전 행은 리뷰에서 다시 세어 채우기
+ * 이미 있으면 건너뜀
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ToiletSchemaInitializer implements CommandLineRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        try {
+            if (!columnExists("toilet", "location")) {
+                jdbcTemplate.execute("""
+                    ALTER TABLE toilet
+                      ADD COLUMN location POINT SRID 4326
+                      GENERATED ALWAYS AS (ST_SRID(POINT(latitude, longitude), 4326)) STORED NOT NULL
+                """);
+                log.info("toilet.location 공간 컬럼 생성 완료");
+            }
+            if (!indexExists("toilet", "idx_toilet_location_spatial")) {
+                jdbcTemplate.execute("ALTER TABLE toilet ADD SPATIAL INDEX idx_toilet_location_spatial (location)");
+                log.info("toilet.location SPATIAL INDEX 생성 완료");
+            }
+            if (!indexExists("toilet", "idx_toilet_fulltext")) {
+                jdbcTemplate.execute(
+                        "ALTER TABLE toilet ADD FULLTEXT INDEX idx_toilet_fulltext (name, address, description) WITH PARSER ngram");
+                log.info("toilet FULLTEXT(ngram) 인덱스 생성 완료");
+            }
+            backfillMainImages();
+            backfillWeeklySchedules();
+            if (!columnHasDefault("toilet_change", "created_at")) {
+                jdbcTemplate.execute(
+                        "ALTER TABLE toilet_change MODIFY created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)");
+                log.info("toilet_change.created_at 기본값 설정 완료");
+            }
+            backfillChangeLog();
+            backfillRatingAggregates();
+        } catch (Exception e) {
+            log.error("toilet 공간 스키마 초기화 중 오류 발생: ", e);
+        }
+    }
+
+    // 대표 이미지 = 가장 먼저 연결된 toilet_image (created_at, id 순)
+    private void backfillMainImages() {
+        int updated = jdbcTemplate.update("""
+            UPDATE toilet t
+              JOIN toilet_image ti ON ti.id = (
+                   SELECT ti2.id FROM toilet_image ti2
+                    WHERE ti2.toilet_id = t.id
+                    ORDER BY ti2.created_at, ti2.id
+                    LIMIT 1)
+              JOIN image i ON i.id = ti.image_id
+               SET t.main_image_url = i.image_url,
+                   t.thumbnail_url = i.image_url
+             WHERE t.main_image_url IS NULL
+        """);
+        if (updated > 0) {
+            log.info("toilet 대표 이미지 채움 - {}건", updated);
+        }
+    }
+
+    private void backfillWeeklySchedules() {
+        List<Object[]> rows = jdbcTemplate.query(
+                "SELECT id, open_24h, open_time, close_time FROM toilet WHERE weekly_schedule IS NULL",
+                (rs, i) -> new Object[]{
+                        rs.getLong("id"),
+                        WeeklySchedule.daily(
+                                rs.getBoolean("open_24h"),
+                                rs.getObject("open_time", LocalTime.class),
+                                rs.getObject("close_time", LocalTime.class))
+                });
+        if (rows.isEmpty()) return;
+
+        List<Object[]> args = rows.stream().map(r -> new Object[]{r[1], r[0]}).toList();
+        jdbcTemplate.batchUpdate("UPDATE toilet SET weekly_schedule = ? WHERE id = ?", args);
+        log.info("toilet 주간 운영표 채움 - {}건", rows.size());
+    }
+
+    private void backfillChangeLog() {
+        int inserted = jdbcTemplate.update("""
+            INSERT INTO toilet_change (toilet_id)
+            SELECT t.id FROM toilet t
+             WHERE NOT EXISTS (SELECT 1 FROM toilet_change c WHERE c.toilet_id = t.id)
+        """);
+        if (inserted > 0) {
+            log.info("toilet 변경 로그 채움 - {}건", inserted);
+        }
+    }
+
+    // 집계가 비어 있는데 리뷰가 있는 화장실만 (이후 어긋남은 ReviewService.reconcileRatings가 보정)
+    private void backfillRatingAggregates() {
+        int updated = jdbcTemplate.update("""
+            UPDATE toilet t
+              JOIN (SELECT r.toilet_id, SUM(r.rating) AS s, COUNT(*) AS c,
+                           SUM(r.rating = 1) AS r1, SUM(r.rating = 2) AS r2, SUM(r.rating = 3) AS r3,
+                           SUM(r.rating = 4) AS r4, SUM(r.rating = 5) AS r5
+                      FROM review r
+                     WHERE r.type = 'ACTIVE'
+                     GROUP BY r.toilet_id) a ON a.toilet_id = t.id
+               SET t.rating_sum = a.s, t.rating_count = a.c,
+                   t.rating_1 = a.r1, t.rating_2 = a.r2, t.rating_3 = a.r3, t.rating_4 = a.r4, t.rating_5 = a.r5,
+                   t.total_reviews = a.c, t.avg_rating = ROUND(a.s / a.c, 1)
+             WHERE t.rating_count = 0
+        """);
+        if (updated > 0) {
+            log.info("toilet 평점 집계 채움 - {}건", updated);
+        }
+    }
+
+    private boolean columnExists(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) FROM information_schema.COLUMNS
+             WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?
+        """, Integer.class, table, column);
+        return count != null && count > 0;
+    }
+
+    private boolean columnHasDefault(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) FROM information_schema.COLUMNS
+             WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?
+               AND COLUMN_DEFAULT IS NOT NULL
+        """, Integer.class, table, column);
+        return count != null && count > 0;
+    }
+
+    private boolean indexExists(String table, String index) {
+        Integer count = jdbcTemplate.queryForObject("""
+            SELECT COUNT(*) FROM information_schema.STATISTICS
+             WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND INDEX_NAME = ?
+        """, Integer.class, table, index);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,78 @@
+package BuyThisDoHippo.Mapoop.domain.map.service;
+
+import BuyThisDoHippo.Mapoop.domain.search.index.ToiletSnapshot;
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletCatalog;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.ScheduleDay;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.WeeklySchedule;
+import BuyThisDoHippo.Mapoop.domain.toilet.service.OpeningClock;
+import BuyThisDoHippo.Mapoop.global.cache.CacheNamespace;
+import BuyThisDoHippo.Mapoop.global.cache.SingleFlight;
+import BuyThisDoHippo.Mapoop.global.cache.TwoLevelCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MapTileServiceTest {
+
+    private static final WeeklySchedule.Moment NOON = new WeeklySchedule.Moment(ScheduleDay.TUE, 48);
+    private static final String KEY = "14/13970/6344";
+
+    private final ToiletCatalog toiletCatalog = mock(ToiletCatalog.class);
+    private final OpeningClock openingClock = mock(OpeningClock.class);
+    private final TwoLevelCache twoLevelCache = mock(TwoLevelCache.class);
+    private final MapTileService service =
+            new MapTileService(toiletCatalog, openingClock, twoLevelCache, new SingleFlight(null, false));
+
+    @BeforeEach
+    void setUp() {
+        when(openingClock.now()).thenReturn(NOON);
+        when(toiletCatalog.isReady()).thenReturn(true);
+    }
+
+    @Test
+    void cachedTileOfSameSlotIsServed() {
+        MapTileService.Tile cached = new MapTileService.Tile(1, NOON.index(), new byte[]{1});
+        when(twoLevelCache.getIfPresent(eq(CacheNamespace.MAP_TILE), eq(KEY), any())).thenReturn(cached);
+
+        assertThat(service.getTile(14, 13970, 6344)).isSameAs(cached);
+        verify(toiletCatalog, never()).current();
+    }
+
+    @Test
+    void builtTileStaysCachedWhenCatalogUnchanged() {
+        when(toiletCatalog.current()).thenReturn(version(1));
+
+        MapTileService.Tile tile = service.getTile(14, 13970, 6344);
+
+        assertThat(tile.version()).isEqualTo(1);
+        verify(twoLevelCache).put(eq(CacheNamespace.MAP_TILE), eq(KEY), any(), eq(tile), isNull());
+        verify(twoLevelCache, never()).evict(CacheNamespace.MAP_TILE, KEY);
+    }
+
+    @Test
+    void tileBuiltFromOlderVersionIsDroppedAfterPut() {
+        // 만드는 사이 카탈로그가 바뀜 → 무효화가 먼저 지나갔을 수 있으므로 방금 넣은 타일 제거
+        when(toiletCatalog.current()).thenReturn(version(1), version(2));
+
+        MapTileService.Tile tile = service.getTile(14, 13970, 6344);
+
+        assertThat(tile.version()).isEqualTo(1);
+        verify(twoLevelCache).put(eq(CacheNamespace.MAP_TILE), eq(KEY), any(), eq(tile), isNull());
+        verify(twoLevelCache).evict(CacheNamespace.MAP_TILE, KEY);
+    }
+
+    private static ToiletCatalog.Version version(long v) {
+        return new ToiletCatalog.Version(v, 0, Map.of(), List.of(), ToiletSnapshot.EMPTY);
+    }
+}
@@ -0,0 +1,85 @@
+package BuyThisDoHippo.Mapoop.domain.map.tile;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TileMathTest {
+
+    @Test
+    void worldCoordinatesOfKnownPoints() {
+        assertThat(TileMath.worldX(-180, 3)).isEqualTo(0.0);
+        assertThat(TileMath.worldX(0, 3)).isEqualTo(4.0);
+        assertThat(TileMath.worldY(0, 3)).isCloseTo(4.0, within(1e-9));
+        // 서울시청 z=16 → 타일 (55883, 25378)
+        assertThat((int) Math.floor(TileMath.worldX(126.9780, 16))).isEqualTo(55_883);
+        assertThat((int) Math.floor(TileMath.worldY(37.5665, 16))).isEqualTo(25_378);
+    }
+
+    @Test
+    void latitudeIsClampedToMercatorRange() {
+        assertThat(TileMath.worldY(90, 0)).isCloseTo(0.0, within(1e-6));
+        assertThat(TileMath.worldY(-90, 0)).isCloseTo(1.0, within(1e-6));
+    }
+
+    @Test
+    void inverseRoundTrips() {
+        for (int z : new int[]{0, 5, 12, 18}) {
+            for (double lat = -80; lat <= 80; lat += 13.7) {
+                assertThat(TileMath.lat(TileMath.worldY(lat, z), z)).isCloseTo(lat, within(1e-9));
+            }
+            for (double lng = -180; lng <= 180; lng += 17.3) {
+                assertThat(TileMath.lng(TileMath.worldX(lng, z), z)).isCloseTo(lng, within(1e-9));
+            }
+        }
+    }
+
+    @Test
+    void validityFollowsZoom() {
+        assertThat(TileMath.isValid(0, 0, 0)).isTrue();
+        assertThat(TileMath.isValid(0, 1, 0)).isFalse();
+        assertThat(TileMath.isValid(4, 15, 15)).isTrue();
+        assertThat(TileMath.isValid(4, 16, 0)).isFalse();
+        assertThat(TileMath.isValid(4, -1, 0)).isFalse();
+    }
+
+    @Test
+    void boundsCoverTileAndBuffer() {
+        double[] b = TileMath.bounds(1, 1, 0, 0);
+        assertThat(b[0]).isCloseTo(0.0, within(1e-9));     // minLat
+        assertThat(b[1]).isCloseTo(0.0, within(1e-9));     // minLng
+        assertThat(b[2]).isCloseTo(85.0511, within(1e-4)); // maxLat
+        assertThat(b[3]).isCloseTo(180.0, within(1e-9));   // maxLng
+
+        double[] buffered = TileMath.bounds(10, 873, 396, 0.1);
+        double[] plain = TileMath.bounds(10, 873, 396, 0);
+        assertThat(buffered[0]).isLessThan(plain[0]);
+        assertThat(buffered[1]).isLessThan(plain[1]);
+        assertThat(buffered[2]).isGreaterThan(plain[2]);
+        assertThat(buffered[3]).isGreaterThan(plain[3]);
+    }
+
+    @Test
+    void touchedTilesIncludeNeighboursWithinBuffer() {
+        int z = 10;
+        // 타일 (873, 396) 중앙 → 그 타일만
+        double centerLng = TileMath.lng(873.5, z);
+        double centerLat = TileMath.lat(396.5, z);
+        assertThat(TileMath.touchedTiles(centerLat, centerLng, z, 0.1))
+                .containsExactly(new int[]{z, 873, 396});
+
+        // 오른쪽 아래 모서리 근처 → 네 타일
+        double cornerLng = TileMath.lng(873.97, z);
+        double cornerLat = TileMath.lat(396.97, z);
+        List<int[]> touched = TileMath.touchedTiles(cornerLat, cornerLng, z, 0.1);
+        assertThat(touched).containsExactlyInAnyOrder(
+                new int[]{z, 873, 396}, new int[]{z, 874, 396},
+                new int[]{z, 873, 397}, new int[]{z, 874, 397});
+
+        // 세계 가장자리 → 범위 밖 타일은 빠짐
+        assertThat(TileMath.touchedTiles(85.0, -179.99, 2, 0.1)).containsExactly(new int[]{2, 0, 0});
+    }
+}
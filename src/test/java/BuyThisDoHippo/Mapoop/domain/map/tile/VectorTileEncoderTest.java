@@ -0,0 +1,163 @@
+package BuyThisDoHippo.Mapoop.domain.map.tile;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VectorTileEncoderTest {
+
+    @Test
+    void encodesLayerHeader() {
+        Message layer = layerOf(VectorTileEncoder.encode("toilets", 4096, List.of()));
+
+        assertThat(layer.varint(15)).isEqualTo(2L);
+        assertThat(layer.string(1)).isEqualTo("toilets");
+        assertThat(layer.varint(5)).isEqualTo(4096L);
+        assertThat(layer.all(2)).isEmpty();
+    }
+
+    @Test
+    void encodesPointFeaturesWithSharedAttributeDictionary() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("name", "강남역");
+        first.put("rating", 4.5);
+        first.put("open", true);
+        first.put("reviews", 12);
+        first.put("missing", null);
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("name", "역삼역");
+        second.put("open", true);
+        second.put("id", -3L);
+
+        byte[] tile = VectorTileEncoder.encode("toilets", 4096, List.of(
+                new VectorTileEncoder.Feature(7, 100, 4000, first),
+                new VectorTileEncoder.Feature(8, -10, 4100, second)));
+        Message layer = layerOf(tile);
+
+        List<String> keys = new ArrayList<>();
+        for (Object k : layer.all(3)) keys.add(new String((byte[]) k, StandardCharsets.UTF_8));
+        assertThat(keys).containsExactly("name", "rating", "open", "reviews", "id");
+
+        List<Object> values = new ArrayList<>();
+        for (Object v : layer.all(4)) values.add(decodeValue(Message.parse((byte[]) v)));
+        assertThat(values).containsExactly("강남역", 4.5, true, 12L, "역삼역", -3L);
+
+        List<Object> features = layer.all(2);
+        assertThat(features).hasSize(2);
+
+        Message f1 = Message.parse((byte[]) features.get(0));
+        assertThat(f1.varint(1)).isEqualTo(7L);
+        assertThat(f1.varint(3)).isEqualTo(1L);  // POINT
+        assertThat(packed(f1.bytes(2))).containsExactly(0L, 0L, 1L, 1L, 2L, 2L, 3L, 3L);
+        assertThat(packed(f1.bytes(4))).containsExactly(9L, zigzag(100), zigzag(4000));
+
+        Message f2 = Message.parse((byte[]) features.get(1));
+        assertThat(f2.varint(1)).isEqualTo(8L);
+        // 같은 값(true)은 사전 번호 재사용
+        assertThat(packed(f2.bytes(2))).containsExactly(0L, 4L, 2L, 2L, 4L, 5L);
+        assertThat(packed(f2.bytes(4))).containsExactly(9L, zigzag(-10), zigzag(4100));
+    }
+
+    private static long zigzag(int n) {
+        return (n << 1) ^ (n >> 31);
+    }
+
+    private static Message layerOf(byte[] tile) {
+        Message t = Message.parse(tile);
+        assertThat(t.all(3)).hasSize(1);
+        return Message.parse(t.bytes(3));
+    }
+
+    private static Object decodeValue(Message v) {
+        if (v.has(1)) return v.string(1);
+        if (v.has(3)) return Double.longBitsToDouble(v.varint(3));
+        if (v.has(4)) return v.varint(4);
+        if (v.has(7)) return v.varint(7) == 1;
+        throw new AssertionError("unexpected value " + v.fields);
+    }
+
+    private static List<Long> packed(byte[] bytes) {
+        Reader r = new Reader(bytes);
+        List<Long> out = new ArrayList<>();
+        while (r.pos < bytes.length) out.add(r.varint());
+        return out;
+    }
+
+    // 검증용 최소 protobuf 파서 (varint / 64bit / length-delimited)
+    private record Message(Map<Integer, List<Object>> fields) {
+
+        static Message parse(byte[] bytes) {
+            Map<Integer, List<Object>> fields = new LinkedHashMap<>();
+            Reader r = new Reader(bytes);
+            while (r.pos < bytes.length) {
+                long tag = r.varint();
+                int field = (int) (tag >>> 3);
+                Object value = switch ((int) (tag & 7)) {
+                    case 0 -> r.varint();
+                    case 1 -> r.fixed64();
+                    case 2 -> r.bytes((int) r.varint());
+                    default -> throw new AssertionError("wire type " + (tag & 7));
+                };
+                fields.computeIfAbsent(field, k -> new ArrayList<>()).add(value);
+            }
+            return new Message(fields);
+        }
+
+        boolean has(int field) {
+            return fields.containsKey(field);
+        }
+
+        List<Object> all(int field) {
+            return fields.getOrDefault(field, List.of());
+        }
+
+        long varint(int field) {
+            return (Long) all(field).get(0);
+        }
+
+        byte[] bytes(int field) {
+            return (byte[]) all(field).get(0);
+        }
+
+        String string(int field) {
+            return new String(bytes(field), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class Reader {
+        final byte[] buf;
+        int pos;
+
+        Reader(byte[] buf) {
+            this.buf = buf;
+        }
+
+        long varint() {
+            long v = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = buf[pos++];
+                v |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return v;
+            }
+        }
+
+        long fixed64() {
+            long v = 0;
+            for (int i = 0; i < 8; i++) v |= (long) (buf[pos++] & 0xff) << (8 * i);
+            return v;
+        }
+
+        byte[] bytes(int n) {
+            byte[] out = new byte[n];
+            System.arraycopy(buf, pos, out, 0, n);
+            pos += n;
+            return out;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package BuyThisDoHippo.Mapoop.domain.review.service;
+
+import BuyThisDoHippo.Mapoop.domain.image.repository.ImageRepository;
+import BuyThisDoHippo.Mapoop.domain.image.repository.ReviewImageRepository;
+import BuyThisDoHippo.Mapoop.domain.image.service.ReviewImageService;
+import BuyThisDoHippo.Mapoop.domain.review.entity.Review;
+import BuyThisDoHippo.Mapoop.domain.review.repository.ReviewRepository;
+import BuyThisDoHippo.Mapoop.domain.tag.repository.ReviewTagRepository;
+import BuyThisDoHippo.Mapoop.domain.tag.repository.TagRepository;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.Toilet;
+import BuyThisDoHippo.Mapoop.domain.toilet.event.ToiletChangedEvent;
+import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletRepository;
+import BuyThisDoHippo.Mapoop.domain.user.entity.User;
+import BuyThisDoHippo.Mapoop.domain.user.repository.UserRepository;
+import BuyThisDoHippo.Mapoop.global.cache.CacheNamespace;
+import BuyThisDoHippo.Mapoop.global.cache.TwoLevelCache;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReviewServiceTest {
+
+    private static final Long TOILET_ID = 7L;
+
+    private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+    private final ToiletRepository toiletRepository = mock(ToiletRepository.class);
+    private final ReviewTagRepository reviewTagRepository = mock(ReviewTagRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final TwoLevelCache twoLevelCache = mock(TwoLevelCache.class);
+    private final EntityManager em = mock(EntityManager.class);
+    private final Toilet toilet = Toilet.builder().id(TOILET_ID).build();
+
+    private ReviewService reviewService;
+
+    @BeforeEach
+    void setUp() {
+        reviewService = new ReviewService(reviewRepository, mock(UserRepository.class), toiletRepository,
+                mock(TagRepository.class), reviewTagRepository, mock(ImageRepository.class),
+                mock(ReviewImageRepository.class), mock(ReviewImageService.class), eventPublisher, twoLevelCache);
+        ReflectionTestUtils.setField(reviewService, "em", em);
+        when(toiletRepository.findById(TOILET_ID)).thenReturn(Optional.of(toilet));
+    }
+
+    @Test
+    void addedReviewIncrementsSumCountAndBucket() {
+        updateToiletRating(null, 4);
+
+        verify(toiletRepository).applyRatingDelta(TOILET_ID, 4L, 1, 0, 0, 0, 1, 0);
+        verify(em).refresh(toilet);
+    }
+
+    @Test
+    void removedReviewDecrementsSumCountAndBucket() {
+        updateToiletRating(3, null);
+
+        verify(toiletRepository).applyRatingDelta(TOILET_ID, -3L, -1, 0, 0, -1, 0, 0);
+    }
+
+    @Test
+    void changedRatingMovesBetweenBucketsWithoutCountChange() {
+        updateToiletRating(2, 5);
+
+        verify(toiletRepository).applyRatingDelta(TOILET_ID, 3L, 0, 0, -1, 0, 0, 1);
+    }
+
+    @Test
+    void unchangedRatingSkipsUpdateButStillPublishesAndEvicts() {
+        updateToiletRating(4, 4);
+
+        verify(toiletRepository, never()).applyRatingDelta(eq(TOILET_ID), anyLong(), anyInt(),
+                anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+        verify(em, never()).refresh(toilet);
+        verify(eventPublisher).publishEvent(new ToiletChangedEvent(TOILET_ID));
+        verify(twoLevelCache).evict(CacheNamespace.TOILET_STATS, "dist:" + TOILET_ID);
+        verify(twoLevelCache).evict(CacheNamespace.TOILET_STATS, "top_tags:" + TOILET_ID);
+    }
+
+    @Test
+    void deletingActiveReviewRemovesItsRatingOnce() {
+        Review review = review(5);
+        when(reviewRepository.findById(100L)).thenReturn(Optional.of(review));
+
+        reviewService.deleteReview(1L, 100L);
+        // 이미 삭제된 리뷰를 다시 지워도 집계에서 또 빼지 않음
+        reviewService.deleteReview(1L, 100L);
+
+        verify(toiletRepository).applyRatingDelta(TOILET_ID, -5L, -1, 0, 0, 0, 0, -1);
+    }
+
+    private void updateToiletRating(Integer removed, Integer added) {
+        ReflectionTestUtils.invokeMethod(reviewService, "updateToiletRating", TOILET_ID, removed, added);
+    }
+
+    private Review review(int rating) {
+        User user = User.builder().id(1L).build();
+        return Review.builder().user(user).toilet(toilet).rating(rating).title("t").content("c").build();
+    }
+}
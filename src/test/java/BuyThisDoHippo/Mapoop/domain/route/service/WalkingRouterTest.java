@@ -0,0 +1,160 @@
+package BuyThisDoHippo.Mapoop.domain.route.service;
+
+import BuyThisDoHippo.Mapoop.domain.route.graph.PedestrianGraph;
+import BuyThisDoHippo.Mapoop.domain.route.service.WalkingRouter.Target;
+import BuyThisDoHippo.Mapoop.global.common.GeoUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class WalkingRouterTest {
+
+    private static final double LAT = 37.5;
+    private static final double LNG = 127.0;
+    /** 경도 0.001° 간격 ≒ 88m */
+    private static final double STEP = 0.001;
+
+    private final WalkingRouter router = new WalkingRouter();
+
+    @Test
+    void notReadyWithoutGraph() {
+        assertThat(router.isReady()).isFalse();
+        assertThat(router.walkingMeters(LAT, LNG, List.of(new Target(1, LAT, LNG)), 1_000)).isNull();
+    }
+
+    @Test
+    void takesCheaperDetourOverSlowDirectEdge() {
+        // a ─(계단 ×5)─ b,  a ─ c ─ b 우회
+        PedestrianGraph.Builder builder = new PedestrianGraph.Builder();
+        int a = builder.addNode(LAT, LNG);
+        int b = builder.addNode(LAT, LNG + 2 * STEP);
+        int c = builder.addNode(LAT + STEP, LNG + STEP);
+        builder.addEdge(a, b, 5.0);
+        builder.addEdge(a, c, 1.0);
+        builder.addEdge(c, b, 1.0);
+        use(builder.build());
+
+        Map<Long, Integer> result = router.walkingMeters(LAT, LNG, List.of(new Target(7, LAT, LNG + 2 * STEP)), 10_000);
+
+        double detour = meters(LAT, LNG, LAT + STEP, LNG + STEP) + meters(LAT + STEP, LNG + STEP, LAT, LNG + 2 * STEP);
+        assertThat(result).containsOnlyKeys(7L);
+        assertThat(result.get(7L)).isCloseTo((int) Math.round(detour), within(1));
+    }
+
+    @Test
+    void dropsTargetsBeyondLimitOrUnreachable() {
+        PedestrianGraph.Builder builder = new PedestrianGraph.Builder();
+        int prev = builder.addNode(LAT, LNG);
+        for (int i = 1; i <= 10; i++) {
+            int next = builder.addNode(LAT, LNG + i * STEP);
+            builder.addEdge(prev, next, 1.0);
+            prev = next;
+        }
+        // 길이 이어지지 않은 섬 노드
+        builder.addNode(LAT + STEP, LNG + 3 * STEP);
+        use(builder.build());
+
+        List<Target> targets = List.of(
+                new Target(1, LAT, LNG + 2 * STEP),
+                new Target(2, LAT, LNG + 9 * STEP),
+                new Target(3, LAT + STEP, LNG + 3 * STEP));
+        Map<Long, Integer> result = router.walkingMeters(LAT, LNG, targets, 500);
+
+        assertThat(result).containsOnlyKeys(1L);
+        assertThat(result.get(1L)).isCloseTo((int) Math.round(meters(LAT, LNG, LAT, LNG + 2 * STEP)), within(1));
+    }
+
+    @Test
+    void addsSnapDistanceAndFallsBackToStraightLineOffGraph() {
+        PedestrianGraph.Builder builder = new PedestrianGraph.Builder();
+        int a = builder.addNode(LAT, LNG);
+        int b = builder.addNode(LAT, LNG + STEP);
+        builder.addEdge(a, b, 1.0);
+        use(builder.build());
+
+        double offLat = LAT + 0.0003;  // b 에서 ≒ 33m
+        double farLat = LAT + 0.005;   // 그래프에서 ≒ 550m → 길에 못 붙임
+        Map<Long, Integer> result = router.walkingMeters(LAT, LNG, List.of(
+                new Target(1, offLat, LNG + STEP),
+                new Target(2, farLat, LNG)), 2_000);
+
+        double snapped = meters(LAT, LNG, LAT, LNG + STEP) + meters(offLat, LNG + STEP, LAT, LNG + STEP);
+        assertThat(result.get(1L)).isCloseTo((int) Math.round(snapped), within(1));
+        assertThat(result.get(2L)).isEqualTo((int) Math.round(meters(LAT, LNG, farLat, LNG)));
+        // 출발점을 길에 붙일 수 없으면 null
+        assertThat(router.walkingMeters(farLat, LNG, List.of(new Target(1, LAT, LNG)), 2_000)).isNull();
+    }
+
+    @Test
+    void matchesBellmanFordOnRandomGrid() {
+        Random random = new Random(11);
+        int side = 12;
+        PedestrianGraph.Builder builder = new PedestrianGraph.Builder();
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) builder.addNode(LAT + r * STEP, LNG + c * STEP);
+        }
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int v = r * side + c;
+                if (c + 1 < side && random.nextInt(5) > 0) builder.addEdge(v, v + 1, 1 + random.nextDouble() * 3);
+                if (r + 1 < side && random.nextInt(5) > 0) builder.addEdge(v, v + side, 1 + random.nextDouble() * 3);
+            }
+        }
+        PedestrianGraph g = builder.build();
+        use(g);
+
+        List<Target> targets = new ArrayList<>();
+        for (int v = 0; v < g.nodeCount(); v++) targets.add(new Target(v, g.lat(v), g.lng(v)));
+
+        // 같은 작업 공간을 여러 번 재사용해도 결과가 같아야 함
+        for (int source : new int[]{0, 77, 143, 0}) {
+            double[] expected = bellmanFord(g, source);
+            Map<Long, Integer> result = router.walkingMeters(g.lat(source), g.lng(source), targets, 1_500);
+            for (int v = 0; v < g.nodeCount(); v++) {
+                if (expected[v] <= 1_499) {
+                    assertThat(result.get((long) v)).as("source %d → %d", source, v)
+                            .isCloseTo((int) Math.round(expected[v]), within(1));
+                } else if (expected[v] > 1_501) {
+                    assertThat(result).as("source %d → %d", source, v).doesNotContainKey((long) v);
+                }
+            }
+        }
+    }
+
+    private void use(PedestrianGraph g) {
+        ReflectionTestUtils.setField(router, "graph", g);
+    }
+
+    private static double meters(double lat1, double lng1, double lat2, double lng2) {
+        return GeoUtils.haversineMeters(lat1, lng1, lat2, lng2);
+    }
+
+    private static double[] bellmanFord(PedestrianGraph g, int source) {
+        double[] dist = new double[g.nodeCount()];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        dist[source] = 0;
+        for (int round = 0; round < g.nodeCount(); round++) {
+            boolean changed = false;
+            for (int v = 0; v < g.nodeCount(); v++) {
+                if (dist[v] == Double.POSITIVE_INFINITY) continue;
+                for (int e = g.edgeStart(v); e < g.edgeEnd(v); e++) {
+                    double nd = dist[v] + g.weight(e);
+                    if (nd < dist[g.target(e)]) {
+                        dist[g.target(e)] = nd;
+                        changed = true;
+                    }
+                }
+            }
+            if (!changed) break;
+        }
+        return dist;
+    }
+}
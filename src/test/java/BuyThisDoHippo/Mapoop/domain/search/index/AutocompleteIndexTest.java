@@ -0,0 +1,124 @@
+package BuyThisDoHippo.Mapoop.domain.search.index;
+
+import BuyThisDoHippo.Mapoop.domain.search.dto.SearchSuggestionDto;
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletView;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.ToiletType;
+import BuyThisDoHippo.Mapoop.domain.toilet.event.ToiletViewChangedEvent;
+import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AutocompleteIndexTest {
+
+    private final ToiletRepository toiletRepository = mock(ToiletRepository.class);
+    private AutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(toiletRepository.findAllNameSummaries()).thenReturn(List.of(
+                summary(1L, "강남역 화장실", "서울 서초구 강남대로 396", 4.5),
+                summary(2L, "강남구청 화장실", "서울 강남구 학동로 426", 3.0),
+                summary(3L, "역삼역 화장실", "서울 역삼동 테헤란로 156", 4.9),
+                summary(4L, "가나다 빌딩", "서울 종로구", null)));
+        index = new AutocompleteIndex(toiletRepository);
+        index.load();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    void notReadyBeforeLoad() {
+        AutocompleteIndex fresh = new AutocompleteIndex(toiletRepository);
+        assertThat(fresh.isReady()).isFalse();
+        fresh.shutdown();
+        assertThat(index.isReady()).isTrue();
+    }
+
+    @Test
+    void matchesPartiallyTypedSyllableOrderedByRating() {
+        assertThat(ids(index.suggest("강ㄴ", 8))).containsExactly(1L, 2L);
+        assertThat(ids(index.suggest("강남", 8))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void matchesAddressWords() {
+        // 이름이 아닌 주소 단어로도 매칭
+        assertThat(ids(index.suggest("서초", 8))).containsExactly(1L);
+        assertThat(ids(index.suggest("서울", 8))).containsExactly(3L, 1L, 2L, 4L);
+    }
+
+    @Test
+    void matchesChosung() {
+        assertThat(ids(index.suggest("ㄱㄴㄷ", 8))).containsExactly(1L, 4L);
+        assertThat(ids(index.suggest("ㅇㅅ", 8))).containsExactly(3L);
+    }
+
+    @Test
+    void respectsLimitAndUnknownPrefix() {
+        assertThat(ids(index.suggest("서울", 2))).containsExactly(3L, 1L);
+        assertThat(index.suggest("부산", 8)).isEmpty();
+        assertThat(index.suggest(" ", 8)).isEmpty();
+    }
+
+    @Test
+    void viewChangeIsAppliedByBackgroundRebuild() {
+        index.onToiletViewChanged(new ToiletViewChangedEvent(null, view(5L, "강남 파이낸스센터", "서울 역삼동", 5.0)));
+
+        List<Long> ids = await(() -> ids(index.suggest("강남", 8)), r -> r.contains(5L));
+        assertThat(ids).startsWith(5L);
+    }
+
+    @Test
+    void ratingChangeReordersAndDeleteRemoves() {
+        index.onToiletViewChanged(new ToiletViewChangedEvent(
+                view(2L, "강남구청 화장실", "서울 강남구 학동로 426", 3.0),
+                view(2L, "강남구청 화장실", "서울 강남구 학동로 426", 5.0)));
+        assertThat(await(() -> ids(index.suggest("강남", 8)), r -> r.get(0) == 2L)).containsExactly(2L, 1L);
+
+        index.onToiletViewChanged(new ToiletViewChangedEvent(view(1L, "강남역 화장실", null, 4.5), null));
+        assertThat(await(() -> ids(index.suggest("강남", 8)), r -> r.size() == 1)).containsExactly(2L);
+    }
+
+    private static <T> T await(Supplier<T> read, Predicate<T> done) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        T value = read.get();
+        while (!done.test(value) && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+            value = read.get();
+        }
+        return value;
+    }
+
+    private static List<Long> ids(List<SearchSuggestionDto> suggestions) {
+        List<Long> out = new ArrayList<>();
+        for (SearchSuggestionDto s : suggestions) out.add(s.getToiletId());
+        return out;
+    }
+
+    private static ToiletRepository.ToiletNameSummary summary(Long id, String name, String address, Double rating) {
+        return new ToiletRepository.ToiletNameSummary() {
+            public Long getId() { return id; }
+            public String getName() { return name; }
+            public String getAddress() { return address; }
+            public Double getAvgRating() { return rating; }
+        };
+    }
+
+    private static ToiletView view(Long id, String name, String address, Double rating) {
+        return new ToiletView(id, name, ToiletType.PUBLIC, address, null, 37.5, 127.0, rating, 0, false,
+                null, false, null, null, null, new long[16], List.of(), new long[0]);
+    }
+}
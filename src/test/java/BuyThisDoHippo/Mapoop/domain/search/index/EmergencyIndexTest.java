@@ -0,0 +1,97 @@
+package BuyThisDoHippo.Mapoop.domain.search.index;
+
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletCatalog;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmergencyIndexTest {
+
+    private final ToiletCatalog toiletCatalog = mock(ToiletCatalog.class);
+    private final EmergencyIndex index = new EmergencyIndex(toiletCatalog);
+
+    @Test
+    void matchesSpatialIndexAroundPrecomputedCells() {
+        ToiletSnapshot s = cityWithCluster();
+        publish(s);
+        index.refresh();
+
+        assertMatches(s, new Random(21), 37.49, 126.94, 0.12, 500);
+    }
+
+    @Test
+    void matchesSpatialIndexBeforeRefreshAndFarFromToilets() {
+        ToiletSnapshot s = cityWithCluster();
+        publish(s);
+
+        // 칸 계산 전 → 공간 인덱스 그대로
+        assertMatches(s, new Random(22), 37.49, 126.94, 0.12, 100);
+
+        // 화장실이 없는 먼 칸 → 요청 중 즉석 계산
+        index.refresh();
+        assertMatches(s, new Random(23), 37.0, 126.5, 0.3, 100);
+    }
+
+    @Test
+    void keepsCellsForRatingOnlyChangeAndFallsBackAfterMove() {
+        ToiletSnapshot s = cityWithCluster();
+        publish(s);
+        index.refresh();
+
+        ToiletSnapshot rated = s.withRating(1L, 4.5);
+        assertMatches(rated, new Random(24), 37.49, 126.94, 0.12, 100);
+
+        // 좌표가 바뀐 스냅샷 → 다시 계산 전이라도 새 점이 결과에 나와야 함
+        ToiletSnapshot moved = s.with(ToiletSpatialIndexTest.row(99_999L, 37.5555, 126.9999));
+        assertThat(index.nearest(moved, 37.5555, 126.9999, 1))
+                .extracting(ToiletSpatialIndex.Neighbor::toiletId).containsExactly(99_999L);
+        assertMatches(moved, new Random(25), 37.49, 126.94, 0.12, 100);
+    }
+
+    @Test
+    void largerKThanDepthUsesSpatialIndex() {
+        ToiletSnapshot s = cityWithCluster();
+        publish(s);
+        index.refresh();
+
+        int k = EmergencyIndex.DEPTH + 5;
+        assertThat(index.nearest(s, 37.55, 127.0, k)).isEqualTo(ToiletSpatialIndex.nearest(s, 37.55, 127.0, k));
+    }
+
+    private void assertMatches(ToiletSnapshot s, Random random, double lat0, double lng0, double span, int queries) {
+        for (int q = 0; q < queries; q++) {
+            double lat = lat0 + random.nextDouble() * span;
+            double lng = lng0 + random.nextDouble() * span;
+            int k = 1 + random.nextInt(EmergencyIndex.DEPTH);
+            assertThat(index.nearest(s, lat, lng, k))
+                    .as("query (%f, %f) k=%d", lat, lng, k)
+                    .isEqualTo(ToiletSpatialIndex.nearest(s, lat, lng, k));
+        }
+    }
+
+    private void publish(ToiletSnapshot s) {
+        when(toiletCatalog.isReady()).thenReturn(true);
+        when(toiletCatalog.current()).thenReturn(new ToiletCatalog.Version(1, 0, Map.of(), List.of(), s));
+    }
+
+    // 도심 1500개 + 칸 후보 상한을 넘는 밀집 지역 (100m 안 200개)
+    private static ToiletSnapshot cityWithCluster() {
+        Random random = new Random(20);
+        List<ToiletSnapshot.Row> rows = new ArrayList<>();
+        long id = 1;
+        for (int i = 0; i < 1_500; i++) {
+            rows.add(ToiletSpatialIndexTest.row(id++, 37.50 + random.nextDouble() * 0.1, 126.95 + random.nextDouble() * 0.1));
+        }
+        for (int i = 0; i < 200; i++) {
+            rows.add(ToiletSpatialIndexTest.row(id++, 37.5600 + random.nextDouble() * 0.001, 127.0000 + random.nextDouble() * 0.001));
+        }
+        return ToiletSnapshot.build(rows);
+    }
+}
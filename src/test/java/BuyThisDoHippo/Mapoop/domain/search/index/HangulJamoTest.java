@@ -0,0 +1,48 @@
+package BuyThisDoHippo.Mapoop.domain.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HangulJamoTest {
+
+    @Test
+    void decomposeSplitsSyllablesIntoJamo() {
+        assertThat(HangulJamo.decompose("강남")).isEqualTo("ㄱㅏㅇㄴㅏㅁ");
+    }
+
+    @Test
+    void decomposeSplitsCompoundVowelsAndFinals() {
+        assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.decompose("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulJamo.decompose("ㄳ")).isEqualTo("ㄱㅅ");
+    }
+
+    @Test
+    void partiallyTypedSyllableIsPrefixOfWord() {
+        // "강ㄴ" 입력 중 → "강남"의 접두사
+        assertThat(HangulJamo.decompose("강남")).startsWith(HangulJamo.decompose("강ㄴ"));
+        // 받침이 붙기 전 음절도 접두사
+        assertThat(HangulJamo.decompose("간")).startsWith(HangulJamo.decompose("가"));
+    }
+
+    @Test
+    void decomposeDropsWhitespaceAndLowercasesLatin() {
+        assertThat(HangulJamo.decompose("GS 25")).isEqualTo("gs25");
+    }
+
+    @Test
+    void chosungKeepsInitialsOnly() {
+        assertThat(HangulJamo.chosung("강남역 화장실")).isEqualTo("ㄱㄴㅇㅎㅈㅅ");
+        assertThat(HangulJamo.chosung("CU편의점")).isEqualTo("cuㅍㅇㅈ");
+    }
+
+    @Test
+    void chosungOnlyDetectsConsonantInput() {
+        assertThat(HangulJamo.isChosungOnly("ㄱㄴ")).isTrue();
+        assertThat(HangulJamo.isChosungOnly("ㄱ ㄴ")).isTrue();
+        assertThat(HangulJamo.isChosungOnly("강ㄴ")).isFalse();
+        assertThat(HangulJamo.isChosungOnly("ㅏ")).isFalse();
+        assertThat(HangulJamo.isChosungOnly(" ")).isFalse();
+    }
+}
@@ -0,0 +1,72 @@
+package BuyThisDoHippo.Mapoop.domain.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static BuyThisDoHippo.Mapoop.domain.search.index.ToiletSpatialIndexTest.row;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToiletSnapshotTest {
+
+    @Test
+    void idsInBoundsMatchesBruteForce() {
+        // 서울 도심 약 10km × 10km 안에 2000개, 칸 몇 개짜리 사각형
+        Random random = new Random(1);
+        List<ToiletSnapshot.Row> rows = rows(random, 2_000, 37.50, 126.95, 0.1);
+        ToiletSnapshot s = ToiletSnapshot.build(rows);
+        for (int q = 0; q < 200; q++) {
+            double minLat = 37.48 + random.nextDouble() * 0.12;
+            double minLng = 126.93 + random.nextDouble() * 0.12;
+            double maxLat = minLat + random.nextDouble() * 0.04;
+            double maxLng = minLng + random.nextDouble() * 0.04;
+            assertThat(sorted(s.idsInBounds(minLat, minLng, maxLat, maxLng)))
+                    .isEqualTo(bruteForce(rows, minLat, minLng, maxLat, maxLng));
+        }
+    }
+
+    @Test
+    void idsInBoundsScansAllRowsWhenBoundsCoverMoreCellsThanRows() {
+        // 칸 수 > 행 수 → 전체 순회 경로
+        Random random = new Random(2);
+        List<ToiletSnapshot.Row> rows = rows(random, 50, 33.0, 125.0, 5.0);
+        ToiletSnapshot s = ToiletSnapshot.build(rows);
+
+        assertThat(sorted(s.idsInBounds(34.0, 126.0, 37.0, 129.0)))
+                .isEqualTo(bruteForce(rows, 34.0, 126.0, 37.0, 129.0));
+    }
+
+    @Test
+    void idsInBoundsIncludesPointsOnTheEdge() {
+        ToiletSnapshot s = ToiletSnapshot.build(List.of(row(1, 37.50, 127.00), row(2, 37.52, 127.02)));
+
+        assertThat(sorted(s.idsInBounds(37.50, 127.00, 37.51, 127.01))).containsExactly(1L);
+        assertThat(ToiletSnapshot.EMPTY.idsInBounds(37.0, 127.0, 38.0, 128.0)).isEmpty();
+    }
+
+    private static List<ToiletSnapshot.Row> rows(Random random, int n, double lat0, double lng0, double spanDeg) {
+        List<ToiletSnapshot.Row> rows = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            rows.add(row(i + 1, lat0 + random.nextDouble() * spanDeg, lng0 + random.nextDouble() * spanDeg));
+        }
+        return rows;
+    }
+
+    private static long[] bruteForce(List<ToiletSnapshot.Row> rows,
+                                     double minLat, double minLng, double maxLat, double maxLng) {
+        return rows.stream()
+                .filter(r -> r.lat() >= minLat && r.lat() <= maxLat && r.lng() >= minLng && r.lng() <= maxLng)
+                .mapToLong(ToiletSnapshot.Row::id)
+                .sorted()
+                .toArray();
+    }
+
+    private static long[] sorted(long[] ids) {
+        long[] copy = ids.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+}
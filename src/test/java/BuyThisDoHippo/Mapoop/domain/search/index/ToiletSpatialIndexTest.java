@@ -0,0 +1,84 @@
+package BuyThisDoHippo.Mapoop.domain.search.index;
+
+import BuyThisDoHippo.Mapoop.domain.search.index.ToiletSpatialIndex.Neighbor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToiletSpatialIndexTest {
+
+    @Test
+    void matchesBruteForceInDenseCity() {
+        // 서울 도심 약 10km × 10km 안에 2000개
+        ToiletSnapshot s = snapshot(new Random(1), 2_000, 37.50, 126.95, 0.1);
+        Random random = new Random(2);
+        for (int q = 0; q < 300; q++) {
+            double lat = 37.48 + random.nextDouble() * 0.14;
+            double lng = 126.93 + random.nextDouble() * 0.14;
+            int k = 1 + random.nextInt(30);
+            assertThat(ToiletSpatialIndex.nearest(s, lat, lng, k))
+                    .as("query (%f, %f) k=%d", lat, lng, k)
+                    .isEqualTo(bruteForce(s, lat, lng, k));
+        }
+    }
+
+    @Test
+    void matchesBruteForceWhenPointsAreSparse() {
+        // 칸 링 상한을 넘는 흩어진 점 → 전체 스캔 경로
+        ToiletSnapshot s = snapshot(new Random(3), 50, 33.0, 125.0, 5.0);
+        Random random = new Random(4);
+        for (int q = 0; q < 100; q++) {
+            double lat = 33.0 + random.nextDouble() * 5.0;
+            double lng = 125.0 + random.nextDouble() * 5.0;
+            assertThat(ToiletSpatialIndex.nearest(s, lat, lng, 5)).isEqualTo(bruteForce(s, lat, lng, 5));
+        }
+    }
+
+    @Test
+    void equalDistancesAreOrderedById() {
+        ToiletSnapshot s = ToiletSnapshot.build(List.of(row(9, 37.5, 127.0), row(3, 37.5, 127.0), row(5, 37.5, 127.0)));
+
+        assertThat(ToiletSpatialIndex.nearest(s, 37.5001, 127.0, 3))
+                .extracting(Neighbor::toiletId).containsExactly(3L, 5L, 9L);
+    }
+
+    @Test
+    void kLargerThanSizeReturnsAllAndEmptyCases() {
+        ToiletSnapshot s = ToiletSnapshot.build(List.of(row(1, 37.5, 127.0), row(2, 37.6, 127.1)));
+
+        assertThat(ToiletSpatialIndex.nearest(s, 37.5, 127.0, 10)).extracting(Neighbor::toiletId).containsExactly(1L, 2L);
+        assertThat(ToiletSpatialIndex.nearest(s, 37.5, 127.0, 0)).isEmpty();
+        assertThat(ToiletSpatialIndex.nearest(ToiletSnapshot.EMPTY, 37.5, 127.0, 3)).isEmpty();
+    }
+
+    static ToiletSnapshot snapshot(Random random, int n, double lat0, double lng0, double spanDeg) {
+        List<ToiletSnapshot.Row> rows = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            rows.add(row(i + 1, lat0 + random.nextDouble() * spanDeg, lng0 + random.nextDouble() * spanDeg));
+        }
+        return ToiletSnapshot.build(rows);
+    }
+
+    static ToiletSnapshot.Row row(long id, double lat, double lng) {
+        return new ToiletSnapshot.Row(id, lat, lng, null, null, false, false);
+    }
+
+    // 모든 행 하버사인 → (거리, id) 정렬 후 앞 k개
+    static List<Neighbor> bruteForce(ToiletSnapshot s, double lat, double lng, int k) {
+        double qLat = Math.toRadians(lat);
+        double qLng = Math.toRadians(lng);
+        double qCos = Math.cos(qLat);
+        List<Neighbor> all = new ArrayList<>(s.size());
+        for (int i = 0; i < s.size(); i++) {
+            double d = DistanceKernel.haversine(qLat, qLng, qCos, s.lat[i], s.lng[i], s.cosLat[i]);
+            all.add(new Neighbor(s.ids[i], (int) Math.round(d)));
+        }
+        all.sort(Comparator.comparingInt(Neighbor::distanceMeters).thenComparingLong(Neighbor::toiletId));
+        return all.subList(0, Math.min(k, all.size()));
+    }
+}
@@ -0,0 +1,107 @@
+package BuyThisDoHippo.Mapoop.domain.search.rank;
+
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletView;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.ScheduleDay;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.ToiletType;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.WeeklySchedule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankingEngineTest {
+
+    private static final WeeklySchedule.Moment NOON = new WeeklySchedule.Moment(ScheduleDay.TUE, 48);
+
+    private final RankingProperties properties = new RankingProperties();
+    private final RankingEngine engine = new RankingEngine(properties);
+
+    @Test
+    void defaultLocatedProfileSortsByDistance() {
+        List<ToiletView> candidates = List.of(
+                view(1, 37.510, 127.0, 5.0),
+                view(2, 37.501, 127.0, 1.0),
+                view(3, 37.505, 127.0, 3.0));
+
+        ToiletRanking.Ranked ranked = engine.rank(RankingEngine.SEARCH, candidates,
+                new RankingEngine.Query(37.5, 127.0, null, null, NOON), 0);
+
+        assertThat(ids(ranked)).containsExactly(2L, 3L, 1L);
+        assertThat(ranked.distance(0)).isBetween(110, 112);
+        assertThat(ranked.distance(2)).isBetween(1_110, 1_113);
+    }
+
+    @Test
+    void defaultUnlocatedProfileSortsByRatingKeepingInputOrderOnTies() {
+        List<ToiletView> candidates = List.of(
+                view(1, 37.5, 127.0, 4.0),
+                view(2, 37.5, 127.0, null),
+                view(3, 37.5, 127.0, 4.5),
+                view(4, 37.5, 127.0, 4.0));
+
+        ToiletRanking.Ranked ranked = engine.rank(RankingEngine.MAP, candidates,
+                new RankingEngine.Query(null, null, null, null, NOON), 3);
+
+        assertThat(ids(ranked)).containsExactly(3L, 1L, 4L);
+        assertThat(ranked.distance(0)).isNull();
+    }
+
+    @Test
+    void keywordWithoutLocationSortsByRelevance() {
+        List<ToiletView> candidates = List.of(view(1, 37.5, 127.0, 5.0), view(2, 37.5, 127.0, 1.0));
+
+        ToiletRanking.Ranked ranked = engine.rank(RankingEngine.SEARCH, candidates,
+                new RankingEngine.Query(null, null, Map.of(1L, 0.2, 2L, 0.9), null, NOON), 0);
+
+        assertThat(ids(ranked)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void profileWeightsCombineFeatures() {
+        RankingWeights w = new RankingWeights();
+        w.setDistancePerKm(1.0);
+        w.setOpenNow(2.0);
+        w.setTagMatch(1.5);
+        RankingProfile profile = new RankingProfile();
+        profile.setLocated(w);
+        properties.getProfiles().put(RankingEngine.CHATBOT, profile);
+
+        ToiletView nearClosed = view(1, 37.501, 127.0, null, WeeklySchedule.daily(false, LocalTime.of(6, 0), LocalTime.of(7, 0)), new long[0]);
+        ToiletView farOpen = view(2, 37.510, 127.0, null, WeeklySchedule.daily(true, null, null), new long[0]);
+        ToiletView farOpenTagged = view(3, 37.515, 127.0, null, WeeklySchedule.daily(true, null, null), new long[]{10, 20});
+
+        // 점수: 1 ≒ -0.11, 2 ≒ 2 - 1.11, 3 ≒ 2 + 1.5 × (2/2) - 1.67
+        ToiletRanking.Ranked ranked = engine.rank(RankingEngine.CHATBOT, List.of(nearClosed, farOpen, farOpenTagged),
+                new RankingEngine.Query(37.5, 127.0, null, List.of(10L, 20L), NOON), 0);
+
+        assertThat(ids(ranked)).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void orderRanksCallerFilledFeatures() {
+        RankingFeatures f = new RankingFeatures(3)
+                .set(0, 300, null, null, false, false, 0, null)
+                .set(1, RankingFeatures.NO_DISTANCE, null, null, false, false, 0, null)
+                .set(2, 100, null, null, false, false, 0, null);
+
+        // 좌표 없는 후보는 맨 뒤
+        assertThat(engine.order(RankingEngine.MAP, f, true, false, 0)).containsExactly(2, 0, 1);
+        assertThat(engine.order(RankingEngine.MAP, f, true, false, 1)).containsExactly(2);
+    }
+
+    private static List<Long> ids(ToiletRanking.Ranked ranked) {
+        return ranked.toilets().stream().map(ToiletView::id).toList();
+    }
+
+    private static ToiletView view(long id, double lat, double lng, Double rating) {
+        return view(id, lat, lng, rating, WeeklySchedule.daily(true, null, null), new long[0]);
+    }
+
+    private static ToiletView view(long id, double lat, double lng, Double rating, String schedule, long[] tagIds) {
+        return new ToiletView(id, "화장실" + id, ToiletType.PUBLIC, null, null, lat, lng, rating, 0, false,
+                null, null, null, null, schedule, WeeklySchedule.toBits(schedule), List.of(), tagIds);
+    }
+}
@@ -0,0 +1,56 @@
+package BuyThisDoHippo.Mapoop.domain.search.rank;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopKSelectorTest {
+
+    @Test
+    void matchesStableSortForAnyLimit() {
+        Random random = new Random(5);
+        for (int round = 0; round < 200; round++) {
+            int n = random.nextInt(60);
+            int[] keys = new int[n];
+            // 동점이 많이 나오도록 좁은 범위 + 음수/극값 섞기
+            for (int i = 0; i < n; i++) {
+                keys[i] = switch (random.nextInt(10)) {
+                    case 0 -> Integer.MIN_VALUE;
+                    case 1 -> Integer.MAX_VALUE;
+                    default -> random.nextInt(21) - 10;
+                };
+            }
+            int limit = random.nextInt(n + 3) - 1;
+            assertThat(TopKSelector.select(keys, limit))
+                    .as("keys %s limit %d", Arrays.toString(keys), limit)
+                    .containsExactly(stableOrder(keys, limit));
+        }
+    }
+
+    @Test
+    void tiesKeepInputOrder() {
+        assertThat(TopKSelector.select(new int[]{3, 1, 3, 1, 2}, 3)).containsExactly(1, 3, 4);
+        assertThat(TopKSelector.select(new int[]{0, 0, 0, 0}, 2)).containsExactly(0, 1);
+    }
+
+    @Test
+    void nonPositiveOrLargeLimitReturnsAll() {
+        int[] keys = {5, -5, 0};
+        assertThat(TopKSelector.select(keys, 0)).containsExactly(1, 2, 0);
+        assertThat(TopKSelector.select(keys, -1)).containsExactly(1, 2, 0);
+        assertThat(TopKSelector.select(keys, 10)).containsExactly(1, 2, 0);
+        assertThat(TopKSelector.select(new int[0], 3)).isEmpty();
+    }
+
+    private static int[] stableOrder(int[] keys, int limit) {
+        int[] all = IntStream.range(0, keys.length).boxed()
+                .sorted(Comparator.comparingInt(i -> keys[i]))
+                .mapToInt(Integer::intValue).toArray();
+        return limit <= 0 ? all : Arrays.copyOf(all, Math.min(limit, all.length));
+    }
+}
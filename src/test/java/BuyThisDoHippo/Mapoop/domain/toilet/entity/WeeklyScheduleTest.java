@@ -0,0 +1,160 @@
+package BuyThisDoHippo.Mapoop.domain.toilet.entity;
+
+import BuyThisDoHippo.Mapoop.domain.toilet.service.OpeningClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeeklyScheduleTest {
+
+    // 2026-10-20 화, 10-21 수, 10-22 목
+    private static final OpeningClock NO_HOLIDAYS = new OpeningClock(List.of());
+    private static final OpeningClock WEDNESDAY_HOLIDAY = new OpeningClock(List.of("2026-10-21"));
+    private static final OpeningClock TUESDAY_HOLIDAY = new OpeningClock(List.of("2026-10-20"));
+
+    private static WeeklySchedule.Hours hours(String open, String close) {
+        return new WeeklySchedule.Hours(false, LocalTime.parse(open), LocalTime.parse(close));
+    }
+
+    private static boolean openAt(String schedule, OpeningClock clock, String time) {
+        WeeklySchedule.Moment moment = clock.at(LocalDateTime.parse(time));
+        boolean byString = WeeklySchedule.isOpen(schedule, moment);
+        // 문자열 경로와 비트 경로는 항상 같은 답
+        assertThat(WeeklySchedule.test(WeeklySchedule.toBits(schedule), moment)).isEqualTo(byString);
+        return byString;
+    }
+
+    @Test
+    void dailyHoursCloseAtCloseSlot() {
+        String schedule = WeeklySchedule.daily(false, LocalTime.of(9, 0), LocalTime.of(18, 0));
+
+        assertThat(schedule).hasSize(WeeklySchedule.LENGTH);
+        assertThat(openAt(schedule, NO_HOLIDAYS, "2026-10-20T08:59")).isFalse();
+        assertThat(openAt(schedule, NO_HOLIDAYS, "2026-10-20T09:00")).isTrue();
+        assertThat(openAt(schedule, NO_HOLIDAYS, "2026-10-20T17:59")).isTrue();
+        assertThat(openAt(schedule, NO_HOLIDAYS, "2026-10-20T18:00")).isFalse();
+    }
+
+    @Test
+    void closeTimeOffSlotRoundsUp() {
+        String schedule = WeeklySchedule.daily(false, LocalTime.of(9, 0), LocalTime.of(18, 5));
+
+        assertThat(openAt(schedule, NO_HOLIDAYS, "2026-10-20T18:10")).isTrue();
+        assertThat(openAt(schedule, NO_HOLIDAYS, "2026-10-20T18:15")).isFalse();
+    }
+
+    @Test
+    void open24hCoversWholeWeek() {
+        String schedule = WeeklySchedule.daily(true, null, null);
+
+        assertThat(schedule).matches("f{" + WeeklySchedule.LENGTH + "}");
+        assertThat(openAt(schedule, WEDNESDAY_HOLIDAY, "2026-10-21T03:00")).isTrue();
+    }
+
+    @Test
+    void overnightSpillsIntoNextWeekdayOnly() {
+        String schedule = WeeklySchedule.build(Map.of(ScheduleDay.TUE, hours("20:00", "02:00")), WeeklySchedule.Hours.CLOSED);
+
+        assertThat(openAt(schedule, NO_HOLIDAYS, "2026-10-20T01:00")).isFalse();
+        assertThat(openAt(schedule, NO_HOLIDAYS, "2026-10-20T21:00")).isTrue();
+        assertThat(openAt(schedule, NO_HOLIDAYS, "2026-10-21T01:45")).isTrue();
+        assertThat(openAt(schedule, NO_HOLIDAYS, "2026-10-21T02:00")).isFalse();
+    }
+
+    @Test
+    void sundayOvernightWrapsToMonday() {
+        String schedule = WeeklySchedule.build(Map.of(ScheduleDay.SUN, hours("22:00", "01:00")), WeeklySchedule.Hours.CLOSED);
+
+        // 2026-10-26 월
+        assertThat(openAt(schedule, NO_HOLIDAYS, "2026-10-26T00:30")).isTrue();
+        assertThat(openAt(schedule, NO_HOLIDAYS, "2026-10-20T00:30")).isFalse();
+    }
+
+    @Test
+    void holidayOvernightBelongsToTheFollowingMorning() {
+        String schedule = WeeklySchedule.build(Map.of(ScheduleDay.HOLIDAY, hours("20:00", "02:00")), WeeklySchedule.Hours.CLOSED);
+
+        // 공휴일 새벽은 공휴일 자신이 넘긴 시간이 아님
+        assertThat(openAt(schedule, WEDNESDAY_HOLIDAY, "2026-10-21T01:00")).isFalse();
+        assertThat(openAt(schedule, WEDNESDAY_HOLIDAY, "2026-10-21T21:00")).isTrue();
+        // 다음 날(평일) 새벽으로 이어짐
+        assertThat(openAt(schedule, WEDNESDAY_HOLIDAY, "2026-10-22T01:00")).isTrue();
+        assertThat(openAt(schedule, WEDNESDAY_HOLIDAY, "2026-10-22T02:00")).isFalse();
+        // 공휴일이 아닌 주의 목요일 새벽은 그대로 휴무
+        assertThat(openAt(schedule, NO_HOLIDAYS, "2026-10-22T01:00")).isFalse();
+    }
+
+    @Test
+    void previousWeekdaySpillReachesIntoHoliday() {
+        String schedule = WeeklySchedule.build(Map.of(ScheduleDay.TUE, hours("20:00", "02:00")), WeeklySchedule.Hours.CLOSED);
+
+        assertThat(openAt(schedule, WEDNESDAY_HOLIDAY, "2026-10-21T01:00")).isTrue();
+        assertThat(openAt(schedule, WEDNESDAY_HOLIDAY, "2026-10-21T02:00")).isFalse();
+        assertThat(openAt(schedule, WEDNESDAY_HOLIDAY, "2026-10-21T21:00")).isFalse();
+    }
+
+    @Test
+    void dayAfterHolidayDropsSkippedWeekdaySpill() {
+        String schedule = WeeklySchedule.build(Map.of(
+                ScheduleDay.TUE, hours("20:00", "02:00"),
+                ScheduleDay.WED, hours("09:00", "18:00")), WeeklySchedule.Hours.CLOSED);
+
+        // 화요일이 공휴일(휴무)이면 화요일 밤 영업이 없었으므로 수요일 새벽도 닫힘
+        assertThat(openAt(schedule, TUESDAY_HOLIDAY, "2026-10-20T21:00")).isFalse();
+        assertThat(openAt(schedule, TUESDAY_HOLIDAY, "2026-10-21T01:00")).isFalse();
+        assertThat(openAt(schedule, TUESDAY_HOLIDAY, "2026-10-21T10:00")).isTrue();
+    }
+
+    @Test
+    void consecutiveHolidaysCarryHolidaySpill() {
+        OpeningClock clock = new OpeningClock(List.of("2026-10-20", "2026-10-21"));
+        String schedule = WeeklySchedule.build(Map.of(ScheduleDay.HOLIDAY, hours("20:00", "02:00")), WeeklySchedule.Hours.CLOSED);
+
+        assertThat(openAt(schedule, clock, "2026-10-20T01:00")).isFalse();
+        assertThat(openAt(schedule, clock, "2026-10-21T01:00")).isTrue();
+        assertThat(openAt(schedule, clock, "2026-10-22T01:00")).isTrue();
+    }
+
+    @Test
+    void momentIndexSeparatesHolidayContexts() {
+        int plain = NO_HOLIDAYS.at(LocalDateTime.parse("2026-10-22T01:00")).index();
+        int afterHoliday = WEDNESDAY_HOLIDAY.at(LocalDateTime.parse("2026-10-22T01:00")).index();
+        int holiday = WEDNESDAY_HOLIDAY.at(LocalDateTime.parse("2026-10-21T01:00")).index();
+        int otherHoliday = TUESDAY_HOLIDAY.at(LocalDateTime.parse("2026-10-20T01:00")).index();
+
+        assertThat(List.of(plain, afterHoliday, holiday, otherHoliday)).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void malformedDigitReadsAsClosed() {
+        String schedule = WeeklySchedule.daily(true, null, null);
+        WeeklySchedule.Moment moment = NO_HOLIDAYS.at(LocalDateTime.parse("2026-10-20T10:00"));
+        char[] chars = schedule.toCharArray();
+        chars[moment.hexIndex()] = 'z';
+        String corrupt = new String(chars);
+
+        assertThat(WeeklySchedule.isOpen(corrupt, moment)).isFalse();
+        assertThat(WeeklySchedule.test(WeeklySchedule.toBits(corrupt), moment)).isFalse();
+    }
+
+    @Test
+    void wrongLengthReadsAsClosed() {
+        WeeklySchedule.Moment moment = NO_HOLIDAYS.at(LocalDateTime.parse("2026-10-20T10:00"));
+
+        assertThat(WeeklySchedule.isOpen(null, moment)).isFalse();
+        assertThat(WeeklySchedule.isOpen("ff", moment)).isFalse();
+    }
+
+    @Test
+    void holidayRowHasNoWeekdayOrder() {
+        assertThat(ScheduleDay.SUN.next()).isEqualTo(ScheduleDay.MON);
+        assertThat(ScheduleDay.MON.previous()).isEqualTo(ScheduleDay.SUN);
+        assertThatThrownBy(ScheduleDay.HOLIDAY::next).isInstanceOf(IllegalStateException.class);
+    }
+}
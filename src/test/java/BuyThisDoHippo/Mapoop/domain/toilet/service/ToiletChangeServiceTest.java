@@ -0,0 +1,128 @@
+package BuyThisDoHippo.Mapoop.domain.toilet.service;
+
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletCatalog;
+import BuyThisDoHippo.Mapoop.domain.toilet.catalog.ToiletView;
+import BuyThisDoHippo.Mapoop.domain.toilet.dto.ToiletChangesResponse;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.ToiletChange;
+import BuyThisDoHippo.Mapoop.domain.toilet.entity.ToiletType;
+import BuyThisDoHippo.Mapoop.domain.toilet.event.ToiletChangedEvent;
+import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletChangeRepository;
+import BuyThisDoHippo.Mapoop.domain.toilet.repository.ToiletRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ToiletChangeServiceTest {
+
+    private final ToiletChangeRepository toiletChangeRepository = mock(ToiletChangeRepository.class);
+    private final ToiletRepository toiletRepository = mock(ToiletRepository.class);
+    private final ToiletCatalog toiletCatalog = mock(ToiletCatalog.class);
+    private final ToiletChangeService service =
+            new ToiletChangeService(toiletChangeRepository, toiletRepository, toiletCatalog);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void keepsLastVersionPerToiletInVersionOrder() {
+        rows(0, 10, row(1, 10, true), row(2, 20, true), row(3, 10, true), row(4, 30, true));
+        views(view(10), view(20));  // 30은 DB에 없음 → 삭제
+
+        ToiletChangesResponse response = service.getChanges(0, 10);
+
+        assertThat(response.getChanges()).extracting(ToiletChangesResponse.Change::getToiletId)
+                .containsExactly(20L, 10L, 30L);
+        assertThat(response.getChanges()).extracting(ToiletChangesResponse.Change::getVersion)
+                .containsExactly(2L, 3L, 4L);
+        assertThat(response.getChanges().get(0).getName()).isEqualTo("화장실20");
+        assertThat(response.getChanges().get(0).getDeleted()).isNull();
+        assertThat(response.getChanges().get(2).getDeleted()).isTrue();
+        assertThat(response.getVersion()).isEqualTo(4L);
+        assertThat(response.isHasMore()).isFalse();
+
+        ArgumentCaptor<Iterable<Long>> ids = ArgumentCaptor.forClass(Iterable.class);
+        verify(toiletRepository).findAllById(ids.capture());
+        assertThat(ids.getValue()).containsExactly(20L, 10L, 30L);
+        // 자리 잡기 대기 시간은 DB 시각 기준 초 단위로 넘김
+        verify(toiletChangeRepository).findSince(0L, 10, 5L);
+    }
+
+    @Test
+    void stopsBeforeFirstUnsettledRow() {
+        rows(4, 10, row(5, 1, true), row(6, 2, false), row(7, 3, true));
+        views(view(1), view(3));
+
+        ToiletChangesResponse response = service.getChanges(4, 10);
+
+        // 7은 자리 잡았어도 6보다 뒤라서 다음 요청으로
+        assertThat(response.getChanges()).extracting(ToiletChangesResponse.Change::getToiletId).containsExactly(1L);
+        assertThat(response.getVersion()).isEqualTo(5L);
+        assertThat(response.isHasMore()).isFalse();
+    }
+
+    @Test
+    void keepsSinceWhenNothingSettled() {
+        rows(9, 10, row(10, 1, false));
+
+        ToiletChangesResponse response = service.getChanges(9, 10);
+
+        assertThat(response.getChanges()).isEmpty();
+        assertThat(response.getVersion()).isEqualTo(9L);
+        assertThat(response.isHasMore()).isFalse();
+        verify(toiletRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void reportsMoreWhenPageIsFull() {
+        rows(0, 2, row(1, 1, true), row(2, 2, true));
+        views(view(1), view(2));
+
+        ToiletChangesResponse response = service.getChanges(0, 2);
+
+        assertThat(response.getVersion()).isEqualTo(2L);
+        assertThat(response.isHasMore()).isTrue();
+    }
+
+    @Test
+    void recordsChangeWithoutTimestamp() {
+        service.onToiletChanged(new ToiletChangedEvent(42L));
+        service.onToiletChanged(new ToiletChangedEvent(null));
+
+        ArgumentCaptor<ToiletChange> saved = ArgumentCaptor.forClass(ToiletChange.class);
+        verify(toiletChangeRepository).save(saved.capture());
+        assertThat(saved.getValue().getToiletId()).isEqualTo(42L);
+        assertThat(saved.getValue().getCreatedAt()).isNull();
+    }
+
+    private void rows(long since, int limit, ToiletChangeRepository.ChangeRow... rows) {
+        when(toiletChangeRepository.findSince(eq(since), eq(limit), anyLong())).thenReturn(Arrays.asList(rows));
+    }
+
+    private void views(ToiletView... views) {
+        when(toiletRepository.findAllById(any())).thenReturn(List.of());
+        when(toiletCatalog.freshViewsOf(any())).thenReturn(new ArrayList<>(List.of(views)));
+    }
+
+    private static ToiletChangeRepository.ChangeRow row(long id, long toiletId, boolean settled) {
+        return new ToiletChangeRepository.ChangeRow() {
+            public Long getId() { return id; }
+            public Long getToiletId() { return toiletId; }
+            public Integer getSettled() { return settled ? 1 : 0; }
+        };
+    }
+
+    private static ToiletView view(long id) {
+        return new ToiletView(id, "화장실" + id, ToiletType.PUBLIC, null, null, 37.5, 127.0, 4.0, 3, false,
+                null, true, null, null, null, new long[0], List.of(), new long[0]);
+    }
+}
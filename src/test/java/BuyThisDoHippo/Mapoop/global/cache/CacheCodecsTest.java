@@ -0,0 +1,111 @@
+package BuyThisDoHippo.Mapoop.global.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheCodecsTest {
+
+    @Test
+    void varLongRoundTripsBoundaries() throws IOException {
+        long[] values = {0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE, Long.MAX_VALUE, -1L, Long.MIN_VALUE};
+        for (long v : values) {
+            byte[] bytes = write(out -> CacheCodecs.writeVarLong(out, v));
+            assertThat(CacheCodecs.readVarLong(in(bytes))).as("value %d", v).isEqualTo(v);
+        }
+    }
+
+    @Test
+    void smallVarLongsTakeOneByte() throws IOException {
+        assertThat(write(out -> CacheCodecs.writeVarLong(out, 127))).hasSize(1);
+        assertThat(write(out -> CacheCodecs.writeVarLong(out, 128))).hasSize(2);
+    }
+
+    @Test
+    void varIntRoundTripsNegativeValues() throws IOException {
+        for (int v : new int[]{0, 300, -1, Integer.MIN_VALUE, Integer.MAX_VALUE}) {
+            byte[] bytes = write(out -> CacheCodecs.writeVarInt(out, v));
+            assertThat(bytes.length).isLessThanOrEqualTo(5);
+            assertThat(CacheCodecs.readVarInt(in(bytes))).isEqualTo(v);
+        }
+    }
+
+    @Test
+    void overlongVarLongIsRejected() {
+        byte[] bytes = new byte[11];
+        Arrays.fill(bytes, (byte) 0x80);
+        assertThatThrownBy(() -> CacheCodecs.readVarLong(in(bytes))).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void nullableFieldsRoundTrip() throws IOException {
+        byte[] bytes = write(out -> {
+            CacheCodecs.writeNullableUTF(out, null);
+            CacheCodecs.writeNullableUTF(out, "강남역");
+            CacheCodecs.writeNullableDouble(out, null);
+            CacheCodecs.writeNullableDouble(out, 4.5);
+        });
+        DataInputStream in = in(bytes);
+        assertThat(CacheCodecs.readNullableUTF(in)).isNull();
+        assertThat(CacheCodecs.readNullableUTF(in)).isEqualTo("강남역");
+        assertThat(CacheCodecs.readNullableDouble(in)).isNull();
+        assertThat(CacheCodecs.readNullableDouble(in)).isEqualTo(4.5);
+    }
+
+    @Test
+    void listOfRoundTrips() throws IOException {
+        CacheCodec<List<String>> codec = CacheCodecs.listOf(CacheCodec.of(
+                (s, out) -> out.writeUTF(s), DataInputStream::readUTF));
+        assertThat(roundTrip(codec, List.of("a", "나", ""))).containsExactly("a", "나", "");
+        assertThat(roundTrip(codec, List.of())).isEmpty();
+    }
+
+    @Test
+    void stringToLongMapRoundTrips() throws IOException {
+        Map<String, Long> map = Map.of("강남", 3L, "역삼", 1_000_000_000_000L);
+        assertThat(roundTrip(CacheCodecs.stringToLongMap(), map)).isEqualTo(map);
+    }
+
+    @Test
+    void longArrayRoundTrips() throws IOException {
+        long[] values = {0, 5, -1L, Long.MAX_VALUE};
+        assertThat(roundTrip(CacheCodecs.longArray(), values)).containsExactly(values);
+        assertThat(roundTrip(CacheCodecs.longArray(), new long[0])).isEmpty();
+    }
+
+    @Test
+    void jsonRoundTripsFields() throws IOException {
+        CacheCodec<Map<String, List<Integer>>> codec = CacheCodecs.json(new TypeReference<>() {});
+        Map<String, List<Integer>> value = Map.of("k", List.of(1, 2, 3));
+        assertThat(roundTrip(codec, value)).isEqualTo(value);
+    }
+
+    private static <T> T roundTrip(CacheCodec<T> codec, T value) throws IOException {
+        return codec.read(in(write(out -> codec.write(value, out))));
+    }
+
+    private interface Body {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static byte[] write(Body body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        body.write(new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    private static DataInputStream in(byte[] bytes) {
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+}
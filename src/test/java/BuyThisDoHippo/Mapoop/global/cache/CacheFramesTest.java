@@ -0,0 +1,77 @@
+package BuyThisDoHippo.Mapoop.global.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheFramesTest {
+
+    private static final CacheCodec<long[]> LONGS = CacheCodecs.longArray();
+    private static final CacheCodec<byte[]> BYTES = CacheCodec.of(
+            (value, out) -> {
+                CacheCodecs.writeVarInt(out, value.length);
+                out.write(value);
+            },
+            in -> {
+                byte[] value = new byte[CacheCodecs.readVarInt(in)];
+                in.readFully(value);
+                return value;
+            });
+
+    @Test
+    void smallValueIsStoredUncompressed() throws IOException {
+        long[] value = {1, 2, 3};
+        byte[] frame = CacheFrames.encode(LONGS, value);
+
+        assertThat(frame[0]).isEqualTo(CacheFrames.VERSION);
+        assertThat(frame[1]).isZero();
+        assertThat(CacheFrames.decode(LONGS, frame)).containsExactly(value);
+    }
+
+    @Test
+    void largeRepetitiveValueIsDeflated() throws IOException {
+        long[] value = new long[2_000];
+        Arrays.fill(value, 42);
+        byte[] frame = CacheFrames.encode(LONGS, value);
+
+        assertThat(frame[1]).isEqualTo((byte) 1);
+        assertThat(frame.length).isLessThan(value.length);
+        assertThat(CacheFrames.decode(LONGS, frame)).containsExactly(value);
+    }
+
+    @Test
+    void incompressibleValueStaysRaw() throws IOException {
+        byte[] value = new byte[2_000];
+        new Random(7).nextBytes(value);
+        byte[] frame = CacheFrames.encode(BYTES, value);
+
+        assertThat(frame[1]).isZero();
+        assertThat(CacheFrames.decode(BYTES, frame)).containsExactly(value);
+    }
+
+    @Test
+    void otherVersionOrShortFrameIsMiss() throws IOException {
+        byte[] frame = CacheFrames.encode(LONGS, new long[]{1});
+        frame[0] = (byte) (CacheFrames.VERSION + 1);
+
+        assertThat(CacheFrames.decode(LONGS, frame)).isNull();
+        assertThat(CacheFrames.decode(LONGS, null)).isNull();
+        assertThat(CacheFrames.decode(LONGS, new byte[]{CacheFrames.VERSION})).isNull();
+    }
+
+    @Test
+    void truncatedCompressedFrameFails() throws IOException {
+        long[] value = new long[2_000];
+        Arrays.fill(value, 42);
+        byte[] frame = CacheFrames.encode(LONGS, value);
+        // 헤더 6B 뒤 압축 본문을 절반만 남김
+        byte[] truncated = Arrays.copyOf(frame, 6 + (frame.length - 6) / 2);
+
+        assertThatThrownBy(() -> CacheFrames.decode(LONGS, truncated)).isInstanceOf(IOException.class);
+    }
+}